@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.Optional;
 import org.verneermlab.base.domain.type.NotEmptyType;
 import org.verneermlab.base.domain.type.numeric.NullableNumberType;
+import org.verneermlab.base.utils.numeric.BigDecimalConverter;
 
 /**
  * Nullを許容しない数値（汎用）.
@@ -30,7 +31,7 @@ public class NotEmptyNumber implements NotEmptyType<BigDecimal>, NullableNumberT
     if (Objects.isNull(value)) {
       throw new NullPointerException();
     }
-    return new NotEmptyNumber(new BigDecimal(value.doubleValue()));
+    return new NotEmptyNumber(BigDecimalConverter.toBigDecimal(value));
   }
 
   /**
@@ -43,6 +44,11 @@ public class NotEmptyNumber implements NotEmptyType<BigDecimal>, NullableNumberT
     return Optional.of(this.value);
   }
 
+  @Override
+  public BigDecimal rawValue() {
+    return this.value;
+  }
+
   @Override
   public BigDecimal getValue() {
     return this.value;
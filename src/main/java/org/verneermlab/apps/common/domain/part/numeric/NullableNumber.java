@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.Optional;
 import org.verneermlab.base.domain.type.numeric.NullableNumberType;
+import org.verneermlab.base.utils.numeric.BigDecimalConverter;
 
 /**
  * Nullを許容する数値（汎用）.
@@ -32,7 +33,7 @@ public class NullableNumber implements NullableNumberType<BigDecimal> {
     if (Objects.isNull(value)) {
       return new NullableNumber();
     }
-    return new NullableNumber(new BigDecimal(value.doubleValue()));
+    return new NullableNumber(BigDecimalConverter.toBigDecimal(value));
   }
 
   @Override
@@ -40,6 +41,11 @@ public class NullableNumber implements NullableNumberType<BigDecimal> {
     return Optional.ofNullable(this.value);
   }
 
+  @Override
+  public BigDecimal rawValue() {
+    return this.value;
+  }
+
   @Override
   public int hashCode() {
     int hash = 3;
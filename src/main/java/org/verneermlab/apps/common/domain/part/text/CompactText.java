@@ -0,0 +1,193 @@
+package org.verneermlab.apps.common.domain.part.text;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import org.verneermlab.base.domain.type.text.behavior.TextRemoveReturn;
+import org.verneermlab.base.domain.type.text.behavior.TextSubstring;
+import org.verneermlab.base.domain.type.text.behavior.TextUnaryOperator;
+import org.verneermlab.base.domain.type.text.behavior.TextZeroPadding;
+import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.text.GraphemeIndex;
+
+/**
+ * Nullを許容する文字列（省メモリ）.
+ * <p>
+ * {@link Text}と同じ振る舞いで、文字列を1つのbyte配列（Latin-1で表現できる場合はLatin-1、それ以外はUTF-16）として保持します.
+ * ハッシュ値と文字数は生成時に求めて保持します.
+ * </p>
+ * 英数字のコードなど、Latin-1で表現できる文字列の大量のインスタンスをキャッシュする用途を想定しています.
+ * byte配列の大きさはJDKのStringと同じため、省メモリとなるのはTextとStringのインスタンス分のみです.<br>
+ * 文字列の参照（{@link #rawValue()}、部分文字列、ゼロ埋めなど）の毎にbyte配列から文字列を生成するため、
+ * Latin-1で表現できない文字列（日本語など）や、頻繁に参照・編集する文字列の代替としては使用せず{@link Text}を使用してください.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class CompactText implements TextZeroPadding<CompactText>,
+        TextRemoveReturn<CompactText>, TextSubstring<CompactText>, TextUnaryOperator<CompactText>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  static {
+    InstanceCreator.register(CompactText.class, String.class, CompactText::new, CompactText::new);
+  }
+
+  private final byte[] bytes;
+  private final boolean latin1;
+  private final int hash;
+  private final int length;
+  private transient GraphemeIndex graphemeIndex;
+
+  private CompactText() {
+    this.bytes = null;
+    this.latin1 = true;
+    this.hash = 0;
+    this.length = 0;
+  }
+
+  private CompactText(String value) {
+    if (Objects.isNull(value)) {
+      this.bytes = null;
+      this.latin1 = true;
+      this.hash = 0;
+      this.length = 0;
+      return;
+    }
+    this.latin1 = isLatin1(value);
+    this.bytes = this.latin1 ? value.getBytes(StandardCharsets.ISO_8859_1) : toUtf16(value);
+    this.hash = value.hashCode();
+    this.length = GraphemeIndex.of(value).length();
+  }
+
+  /**
+   * 値を保持しないインスタンスを生成します.
+   *
+   * @return 生成したインスタンス
+   */
+  public static CompactText createNoValue() {
+    return new CompactText();
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param value 値
+   * @return 生成したインスタンス
+   */
+  public static CompactText of(String value) {
+    return new CompactText(value);
+  }
+
+  /**
+   * 同じ値の{@link Text}を返却します.
+   *
+   * @return 生成したインスタンス
+   */
+  public Text toText() {
+    return Text.of(this.rawValue());
+  }
+
+  @Override
+  public Optional<String> getNullableValue() {
+    return Optional.ofNullable(this.rawValue());
+  }
+
+  @Override
+  public String rawValue() {
+    if (Objects.isNull(this.bytes)) {
+      return null;
+    }
+    if (this.latin1) {
+      return new String(this.bytes, StandardCharsets.ISO_8859_1);
+    }
+    return fromUtf16(this.bytes);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return Objects.isNull(this.bytes) || this.bytes.length == 0;
+  }
+
+  @Override
+  public int length() {
+    return this.length;
+  }
+
+  @Override
+  public GraphemeIndex graphemeIndex() {
+    var index = this.graphemeIndex;
+    if (Objects.isNull(index)) {
+      index = GraphemeIndex.of(Objects.requireNonNullElse(this.rawValue(), ""));
+      this.graphemeIndex = index;
+    }
+    return index;
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 3;
+    hash = 59 * hash + this.hash;
+    return hash;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null) {
+      return false;
+    }
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+    final CompactText other = (CompactText) obj;
+    // 同じ文字列は同じ符号化となるため、byte配列で比較します.
+    return this.hash == other.hash
+            && this.latin1 == other.latin1
+            && Arrays.equals(this.bytes, other.bytes);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toString(this.rawValue());
+  }
+
+  /**
+   * charをそのまま2バイトずつ変換します.
+   * <p>
+   * {@link String#getBytes(java.nio.charset.Charset)}は対にならないサロゲートを置換文字に変換するため、文字コードによる変換は行いません.
+   * </p>
+   *
+   * @param value 変換元の文字列
+   * @return 変換したbyte配列（ビッグエンディアン）
+   */
+  private static byte[] toUtf16(String value) {
+    var result = new byte[value.length() * 2];
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      result[i * 2] = (byte) (c >>> 8);
+      result[i * 2 + 1] = (byte) c;
+    }
+    return result;
+  }
+
+  private static String fromUtf16(byte[] bytes) {
+    var chars = new char[bytes.length / 2];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) (((bytes[i * 2] & 0xFF) << 8) | (bytes[i * 2 + 1] & 0xFF));
+    }
+    return new String(chars);
+  }
+
+  private static boolean isLatin1(String value) {
+    for (int i = 0; i < value.length(); i++) {
+      if (value.charAt(i) > 0xFF) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -8,6 +8,9 @@ import org.verneermlab.base.domain.type.text.behavior.TextRemoveReturn;
 import org.verneermlab.base.domain.type.text.behavior.TextSubstring;
 import org.verneermlab.base.domain.type.text.behavior.TextUnaryOperator;
 import org.verneermlab.base.domain.type.text.behavior.TextZeroPadding;
+import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.text.GraphemeIndex;
+import org.verneermlab.base.utils.text.InternPool;
 
 /**
  * Nullを許容しない文字列（汎用）.
@@ -20,8 +23,24 @@ public final class NotEmptyText implements NotEmptyType<String>,
 
   private static final long serialVersionUID = 1L;
 
+  static {
+    InstanceCreator.register(NotEmptyText.class, String.class, NotEmptyText::new, NotEmptyText::new);
+  }
+
+  /**
+   * {@link #ofInterned(String)}で共有するインスタンスの上限.
+   */
+  private static final int INTERN_CAPACITY = 4096;
+
+  private static final InternPool<NotEmptyText> internPool = InternPool.of(INTERN_CAPACITY, NotEmptyText::new, e -> e.value);
+
   private final String value;
 
+  /**
+   * 書記素クラスタの境界位置. 参照時に生成します.
+   */
+  private transient GraphemeIndex graphemeIndex;
+
   private NotEmptyText() {
     // 文字列結合の元インスタンスとなるため空文字を初期値として設定します.
     this.value = "";
@@ -46,6 +65,31 @@ public final class NotEmptyText implements NotEmptyType<String>,
     return new NotEmptyText(value);
   }
 
+  /**
+   * 同じ値のインスタンスを共有してインスタンスを生成します.
+   * <p>
+   * 共有するインスタンスの数には上限があるため、同じ値でも別のインスタンスを返却することがあります.
+   * </p>
+   *
+   * @param value 値
+   * @return 生成したインスタンス
+   */
+  public static NotEmptyText ofInterned(String value) {
+    if (Objects.isNull(value)) {
+      throw new NullPointerException();
+    }
+    return internPool.intern(value);
+  }
+
+  /**
+   * {@link #ofInterned(String)}でインスタンスを共有した回数の集計を返却します.
+   *
+   * @return 呼び出し時点の集計
+   */
+  public static InternPool.Statistics internStatistics() {
+    return internPool.statistics();
+  }
+
   /**
    * Nullを許容していないクラスのため、本メソッドを使用する意味はありません.
    *
@@ -56,11 +100,26 @@ public final class NotEmptyText implements NotEmptyType<String>,
     return Optional.of(value);
   }
 
+  @Override
+  public String rawValue() {
+    return value;
+  }
+
   @Override
   public String getValue() {
     return this.value;
   }
 
+  @Override
+  public GraphemeIndex graphemeIndex() {
+    var index = this.graphemeIndex;
+    if (index == null) {
+      index = GraphemeIndex.of(this.value);
+      this.graphemeIndex = index;
+    }
+    return index;
+  }
+
   @Override
   public int hashCode() {
     int hash = 7;
@@ -80,7 +139,7 @@ public final class NotEmptyText implements NotEmptyType<String>,
       return false;
     }
     final NotEmptyText other = (NotEmptyText) obj;
-    return Objects.equals(this.getNullableValue().orElse(null), other.getNullableValue().orElse(null));
+    return Objects.equals(this.value, other.value);
   }
 
   @Override
@@ -7,6 +7,9 @@ import org.verneermlab.base.domain.type.text.behavior.TextRemoveReturn;
 import org.verneermlab.base.domain.type.text.behavior.TextSubstring;
 import org.verneermlab.base.domain.type.text.behavior.TextUnaryOperator;
 import org.verneermlab.base.domain.type.text.behavior.TextZeroPadding;
+import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.text.GraphemeIndex;
+import org.verneermlab.base.utils.text.InternPool;
 
 /**
  * Nullを許容する文字列（汎用）.
@@ -21,8 +24,24 @@ public final class Text implements TextZeroPadding<Text>,
 
   private static final long serialVersionUID = 1L;
 
+  static {
+    InstanceCreator.register(Text.class, String.class, Text::new, Text::new);
+  }
+
+  /**
+   * {@link #ofInterned(String)}で共有するインスタンスの上限.
+   */
+  private static final int INTERN_CAPACITY = 4096;
+
+  private static final InternPool<Text> internPool = InternPool.of(INTERN_CAPACITY, Text::new, e -> e.value);
+
   private final String value;
 
+  /**
+   * 書記素クラスタの境界位置. 参照時に生成します.
+   */
+  private transient GraphemeIndex graphemeIndex;
+
   private Text() {
     this.value = null;
   }
@@ -53,11 +72,52 @@ public final class Text implements TextZeroPadding<Text>,
     return new Text(value);
   }
 
+  /**
+   * 同じ値のインスタンスを共有してインスタンスを生成します.
+   * <p>
+   * 都道府県名や区分名など、同じ値を大量に生成する場合に使用することを想定しています.
+   * 共有するインスタンスの数には上限があるため、同じ値でも別のインスタンスを返却することがあります.
+   * </p>
+   *
+   * @param value 値
+   * @return 生成したインスタンス. <code>null</code>の場合は共有せずに値を保持しないインスタンス
+   */
+  public static Text ofInterned(String value) {
+    if (Objects.isNull(value)) {
+      return new Text();
+    }
+    return internPool.intern(value);
+  }
+
+  /**
+   * {@link #ofInterned(String)}でインスタンスを共有した回数の集計を返却します.
+   *
+   * @return 呼び出し時点の集計
+   */
+  public static InternPool.Statistics internStatistics() {
+    return internPool.statistics();
+  }
+
   @Override
   public Optional<String> getNullableValue() {
     return Optional.ofNullable(value);
   }
 
+  @Override
+  public String rawValue() {
+    return value;
+  }
+
+  @Override
+  public GraphemeIndex graphemeIndex() {
+    var index = this.graphemeIndex;
+    if (index == null) {
+      index = GraphemeIndex.of(Objects.requireNonNullElse(this.value, ""));
+      this.graphemeIndex = index;
+    }
+    return index;
+  }
+
   @Override
   public int hashCode() {
     int hash = 5;
@@ -77,7 +137,7 @@ public final class Text implements TextZeroPadding<Text>,
       return false;
     }
     final Text other = (Text) obj;
-    return Objects.equals(this.getNullableValue().orElse(null), other.getNullableValue().orElse(null));
+    return Objects.equals(this.value, other.value);
   }
 
   @Override
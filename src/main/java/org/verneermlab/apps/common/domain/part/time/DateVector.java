@@ -0,0 +1,300 @@
+package org.verneermlab.apps.common.domain.part.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import org.verneermlab.base.utils.time.MonthsBetween;
+
+/**
+ * 日付の列.
+ * <p>
+ * 大量の日付の期間を計算するために、{@link GenericDate}のインスタンスを保持せずエポック日のintの列として保持します.
+ * 値を保持しない要素はビットマップで管理します.
+ * </p>
+ * 期間の計算は{@link GenericDate#rangeDays(GenericDate)}、{@link GenericDate#rangeMonths(GenericDate)}、
+ * {@link GenericDate#rangeYears(GenericDate)}と同じ結果となり、要素数が多い場合は複数のスレッドで並列に計算します.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class DateVector {
+
+  /**
+   * 並列に計算する要素数の下限.
+   */
+  private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+  /**
+   * 範囲を計算する単位の要素数. ビットマップの1ワードに合わせます（スレッドへの分割は並列ストリームが決定します）.
+   */
+  private static final int BLOCK_SIZE = Long.SIZE;
+
+  private final int[] epochDays;
+  private final long[] nullMask;
+
+  private DateVector(int[] epochDays, long[] nullMask) {
+    this.epochDays = epochDays;
+    this.nullMask = nullMask;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param dates 日付リスト
+   * @return 生成したインスタンス
+   */
+  public static DateVector of(Collection<GenericDate> dates) {
+    var builder = builder(dates.size());
+    for (var date : dates) {
+      builder.add(date);
+    }
+    return builder.build();
+  }
+
+  /**
+   * エポック日の列からインスタンスを生成します.
+   * <p>
+   * {@link GenericDate}を生成せずに、DBやファイルから読み込んだエポック日の列をそのまま使用します.
+   * 引数の配列は複製して保持します.
+   * </p>
+   *
+   * @param epochDays エポック日の列. 値を保持しない要素の値は使用しません
+   * @param nullMask 値を保持しない要素のビットマップ（要素の位置をiとした場合、{@code nullMask[i >>> 6]}の{@code 1L << i}のビット）
+   * @return 生成したインスタンス
+   * @throws IllegalArgumentException ビットマップの要素数がエポック日の列の要素数に対応しない場合
+   * @throws DateTimeException 値を保持する要素のエポック日が{@link Integer#MIN_VALUE}の場合
+   */
+  public static DateVector ofEpochDays(int[] epochDays, long[] nullMask) {
+    int words = (epochDays.length + 63) >>> 6;
+    if (nullMask.length != words) {
+      throw new IllegalArgumentException("nullMask length must be " + words + ". nullMask length = " + nullMask.length);
+    }
+    var mask = Arrays.copyOf(nullMask, words);
+    if (epochDays.length % Long.SIZE != 0) {
+      // 要素数を超える位置のビットは使用しないため除去します.
+      mask[words - 1] &= (1L << epochDays.length) - 1;
+    }
+    for (int i = 0; i < epochDays.length; i++) {
+      if (epochDays[i] == Integer.MIN_VALUE && (mask[i >>> 6] & (1L << i)) == 0) {
+        throw new DateTimeException("epochDay is out of range. index = " + i + ", epochDay = " + epochDays[i]);
+      }
+    }
+    return new DateVector(Arrays.copyOf(epochDays, epochDays.length), mask);
+  }
+
+  /**
+   * インスタンスを構築するビルダーを返却します.
+   *
+   * @param initialCapacity 初期の要素数
+   * @return ビルダー
+   */
+  public static Builder builder(int initialCapacity) {
+    return new Builder(initialCapacity);
+  }
+
+  /**
+   * 要素数を返却します.
+   *
+   * @return 要素数
+   */
+  public int size() {
+    return this.epochDays.length;
+  }
+
+  /**
+   * 要素を返却します.
+   *
+   * @param index 要素の位置
+   * @return 日付
+   * @throws IndexOutOfBoundsException 要素の位置が範囲外の場合
+   */
+  public GenericDate get(int index) {
+    Objects.checkIndex(index, this.epochDays.length);
+    if (this.isNull(index)) {
+      return GenericDate.of(null);
+    }
+    return GenericDate.ofEpochDay(this.epochDays[index]);
+  }
+
+  /**
+   * 要素ごとに指定日との日数の差異を返却します.
+   *
+   * @param after 指定日の列
+   * @return 期間日数の列. いずれかが値を保持していない要素は値を保持しません
+   * @throws IllegalArgumentException 要素数が異なる場合
+   */
+  public RangeVector rangeDays(DateVector after) {
+    return this.range(after, (start, end) -> (long) end - start);
+  }
+
+  /**
+   * 要素ごとに指定日との月数の差異を返却します.
+   *
+   * @param after 指定日の列
+   * @return 期間月数の列. いずれかが値を保持していない要素は値を保持しません
+   * @throws IllegalArgumentException 要素数が異なる場合
+   */
+  public RangeVector rangeMonths(DateVector after) {
+    return this.range(after, DateVector::totalMonths);
+  }
+
+  /**
+   * 要素ごとに指定日との年数の差異を返却します.
+   *
+   * @param after 指定日の列
+   * @return 期間年数の列. いずれかが値を保持していない要素は値を保持しません
+   * @throws IllegalArgumentException 要素数が異なる場合
+   */
+  public RangeVector rangeYears(DateVector after) {
+    return this.range(after, (start, end) -> totalMonths(start, end) / 12);
+  }
+
+  /**
+   * 要素をリストで返却します.
+   *
+   * @return 日付リスト
+   */
+  public List<GenericDate> toList() {
+    var result = new ArrayList<GenericDate>(this.epochDays.length);
+    for (int i = 0; i < this.epochDays.length; i++) {
+      result.add(this.get(i));
+    }
+    return result;
+  }
+
+  private boolean isNull(int index) {
+    return (this.nullMask[index >>> 6] & (1L << index)) != 0;
+  }
+
+  private RangeVector range(DateVector after, EpochDayRange function) {
+    if (this.epochDays.length != after.epochDays.length) {
+      throw new IllegalArgumentException("size is not same. size = " + this.epochDays.length
+              + ", other size = " + after.epochDays.length);
+    }
+    int size = this.epochDays.length;
+    var values = new long[size];
+    var nullMask = new long[this.nullMask.length];
+    int blockCount = (size + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    var blocks = IntStream.range(0, blockCount);
+    if (size >= PARALLEL_THRESHOLD) {
+      blocks = blocks.parallel();
+    }
+    // ビットマップのワード単位で分割するため、スレッド間で同じワードを更新しません.
+    blocks.forEach(block -> {
+      long nulls = this.nullMask[block] | after.nullMask[block];
+      nullMask[block] = nulls;
+      int end = Math.min(size, (block + 1) * BLOCK_SIZE);
+      for (int i = block * BLOCK_SIZE; i < end; i++) {
+        if ((nulls & (1L << i)) == 0) {
+          values[i] = function.apply(this.epochDays[i], after.epochDays[i]);
+        }
+      }
+    });
+    return new RangeVector(values, nullMask);
+  }
+
+  private static long totalMonths(int start, int end) {
+    return MonthsBetween.totalMonths(LocalDate.ofEpochDay(start), LocalDate.ofEpochDay(end));
+  }
+
+  /**
+   * エポック日の期間を計算する関数.
+   */
+  @FunctionalInterface
+  private interface EpochDayRange {
+
+    long apply(int start, int end);
+  }
+
+  /**
+   * 日付の列を構築します.
+   */
+  public static final class Builder {
+
+    private int[] epochDays;
+    private long[] nullMask;
+    private int size;
+
+    private Builder(int initialCapacity) {
+      int capacity = Math.max(initialCapacity, 1);
+      this.epochDays = new int[capacity];
+      this.nullMask = new long[(capacity + 63) >>> 6];
+    }
+
+    /**
+     * 要素を追加します.
+     *
+     * @param date 日付
+     * @return 自インスタンス
+     */
+    public Builder add(GenericDate date) {
+      var epochDay = date.toEpochDay();
+      if (epochDay.isEmpty()) {
+        return this.addNull();
+      }
+      return this.addEpochDay((int) epochDay.getAsLong());
+    }
+
+    /**
+     * 要素を追加します.
+     *
+     * @param date 日付. nullの場合は値を保持しない要素
+     * @return 自インスタンス
+     * @throws DateTimeException エポック日がintの範囲を超える日付の場合
+     */
+    public Builder add(LocalDate date) {
+      return this.add(GenericDate.of(date));
+    }
+
+    /**
+     * エポック日の要素を追加します.
+     *
+     * @param epochDay エポック日
+     * @return 自インスタンス
+     * @throws DateTimeException エポック日が{@link Integer#MIN_VALUE}の場合
+     */
+    public Builder addEpochDay(int epochDay) {
+      if (epochDay == Integer.MIN_VALUE) {
+        throw new DateTimeException("epochDay is out of range. epochDay = " + epochDay);
+      }
+      this.ensureCapacity();
+      this.epochDays[this.size++] = epochDay;
+      return this;
+    }
+
+    /**
+     * 値を保持しない要素を追加します.
+     *
+     * @return 自インスタンス
+     */
+    public Builder addNull() {
+      this.ensureCapacity();
+      this.nullMask[this.size >>> 6] |= 1L << this.size;
+      this.size++;
+      return this;
+    }
+
+    /**
+     * インスタンスを生成します.
+     *
+     * @return 生成したインスタンス
+     */
+    public DateVector build() {
+      return new DateVector(Arrays.copyOf(this.epochDays, this.size),
+              Arrays.copyOf(this.nullMask, (this.size + 63) >>> 6));
+    }
+
+    private void ensureCapacity() {
+      if (this.size < this.epochDays.length) {
+        return;
+      }
+      int capacity = this.epochDays.length * 2;
+      this.epochDays = Arrays.copyOf(this.epochDays, capacity);
+      this.nullMask = Arrays.copyOf(this.nullMask, (capacity + 63) >>> 6);
+    }
+  }
+}
@@ -1,9 +1,10 @@
 package org.verneermlab.apps.common.domain.part.time;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.verneermlab.base.domain.type.time.NullableDateType;
 import org.verneermlab.base.domain.type.time.behavior.localdate.DateComparator;
 import org.verneermlab.base.domain.type.time.behavior.localdate.DateDaysRange;
@@ -11,9 +12,16 @@ import org.verneermlab.base.domain.type.time.behavior.localdate.DateMonthsRange;
 import org.verneermlab.base.domain.type.time.behavior.localdate.DateMonthsShift;
 import org.verneermlab.base.domain.type.time.behavior.localdate.DateUnaryOperator;
 import org.verneermlab.base.domain.type.time.behavior.localdate.DateYearsRange;
+import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.time.BasicDateFormat;
 
 /**
  * 汎用日付.
+ * <p>
+ * 日付をエポック日（1970-01-01からの日数）のintとして保持し、LocalDateは参照時に生成します.
+ * 日付の比較と日数の差異は、LocalDateを生成せずにエポック日で計算します.
+ * </p>
+ * 保持できる日付は、エポック日がintの範囲（西暦±約580万年）に収まる日付です.
  *
  * @author Yamashita.Takahiro
  */
@@ -22,13 +30,23 @@ public class GenericDate implements NullableDateType<GenericDate>,
         DateDaysRange<GenericDate>, DateMonthsRange<GenericDate>,
         DateMonthsShift<GenericDate>, DateYearsRange<GenericDate> {
 
-  private static final DateTimeFormatter formatterYYYYMMDD = DateTimeFormatter.ofPattern("uuuuMMdd");
-  private static final DateTimeFormatter formatterYYYYMM = DateTimeFormatter.ofPattern("uuuuMM");
+  static {
+    InstanceCreator.register(GenericDate.class, LocalDate.class, () -> new GenericDate(null), GenericDate::new);
+  }
+
+  /**
+   * 値を保持していないことを表すエポック日. 全ての日付より小さい値とします.
+   */
+  private static final int EMPTY = Integer.MIN_VALUE;
 
-  private final LocalDate value;
+  private final int epochDay;
 
   private GenericDate(LocalDate value) {
-    this.value = value;
+    this.epochDay = Objects.isNull(value) ? EMPTY : toIntEpochDay(value.toEpochDay());
+  }
+
+  private GenericDate(int epochDay) {
+    this.epochDay = epochDay;
   }
 
   /**
@@ -36,11 +54,23 @@ public class GenericDate implements NullableDateType<GenericDate>,
    *
    * @param value 日付
    * @return 生成したインスタンス
+   * @throws DateTimeException エポック日がintの範囲を超える日付の場合
    */
   public static GenericDate of(LocalDate value) {
     return new GenericDate(value);
   }
 
+  /**
+   * エポック日からインスタンスを生成します.
+   *
+   * @param epochDay エポック日（1970-01-01からの日数）
+   * @return 生成したインスタンス
+   * @throws DateTimeException エポック日がintの範囲を超える場合
+   */
+  public static GenericDate ofEpochDay(long epochDay) {
+    return new GenericDate(toIntEpochDay(epochDay));
+  }
+
   /**
    * 日付文字列からインスタンスを生成します.
    *
@@ -51,13 +81,91 @@ public class GenericDate implements NullableDateType<GenericDate>,
     if (Objects.equals("", date)) {
       return new GenericDate(null);
     }
-    var converted = LocalDate.parse(date, formatterYYYYMMDD);
-    return new GenericDate(converted);
+    long epochDay = BasicDateFormat.parseEpochDay(date);
+    if (epochDay == BasicDateFormat.INVALID) {
+      return new GenericDate(BasicDateFormat.parse(date));
+    }
+    return ofEpochDay(epochDay);
+  }
+
+  /**
+   * 日付文字列からインスタンスを生成します.
+   * <p>
+   * {@link #fromYyyyMmDd(String)}と異なり、変換できない場合に例外をスローしません.
+   * </p>
+   *
+   * @param date yyyyMMdd形式の日付文字列
+   * @return 生成したインスタンス. 空文字の場合は値を保持しないインスタンス. nullまたは変換できない場合は空
+   */
+  public static Optional<GenericDate> tryFromYyyyMmDd(String date) {
+    if (Objects.isNull(date)) {
+      return Optional.empty();
+    }
+    if (date.isEmpty()) {
+      return Optional.of(new GenericDate(null));
+    }
+    long epochDay = BasicDateFormat.parseEpochDay(date);
+    if (epochDay == BasicDateFormat.INVALID || epochDay <= EMPTY || epochDay > Integer.MAX_VALUE) {
+      return Optional.empty();
+    }
+    return Optional.of(new GenericDate((int) epochDay));
   }
 
   @Override
   public Optional<LocalDate> getNullableValue() {
-    return Optional.ofNullable(value);
+    return Optional.ofNullable(this.rawValue());
+  }
+
+  @Override
+  public LocalDate rawValue() {
+    return this.epochDay == EMPTY ? null : LocalDate.ofEpochDay(this.epochDay);
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return this.epochDay == EMPTY;
+  }
+
+  /**
+   * エポック日を返却します.
+   *
+   * @return エポック日（1970-01-01からの日数）. 値を保持していない場合は空
+   */
+  public OptionalLong toEpochDay() {
+    return this.epochDay == EMPTY ? OptionalLong.empty() : OptionalLong.of(this.epochDay);
+  }
+
+  @Override
+  public boolean eq(GenericDate other) {
+    return this.epochDay == other.epochDay;
+  }
+
+  @Override
+  public boolean lt(GenericDate other) {
+    return this.epochDay < other.epochDay;
+  }
+
+  @Override
+  public boolean le(GenericDate other) {
+    return this.epochDay <= other.epochDay;
+  }
+
+  @Override
+  public boolean gt(GenericDate other) {
+    return this.epochDay > other.epochDay;
+  }
+
+  @Override
+  public boolean ge(GenericDate other) {
+    return this.epochDay >= other.epochDay;
+  }
+
+  @Override
+  public long rangeDaysAsLong(GenericDate after) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return 0L;
+    }
+    return (long) after.epochDay - this.epochDay;
   }
 
   /**
@@ -66,20 +174,33 @@ public class GenericDate implements NullableDateType<GenericDate>,
    * @return 日付文字列（YYYYMMDD形式）
    */
   public Optional<String> toYyyyMmDd() {
-    Optional<String> result = Objects.nonNull(this.value)
-            ? Optional.of(formatterYYYYMMDD.format(this.value))
+    Optional<String> result = !this.isEmpty()
+            ? Optional.of(BasicDateFormat.format(this.rawValue()))
             : Optional.empty();
     return result;
   }
 
+  /**
+   * 日付文字列（YYYYMMDD形式）を追記します.
+   *
+   * @param builder 追記先
+   * @return 追記先. 値を保持していない場合は追記しません
+   */
+  public StringBuilder formatYyyyMmDdTo(StringBuilder builder) {
+    if (this.isEmpty()) {
+      return builder;
+    }
+    return BasicDateFormat.formatTo(this.rawValue(), builder);
+  }
+
   /**
    * 日付文字列（YYYYMM形式）を返却します.
    *
    * @return 日付文字列（YYYYMM形式）
    */
   public Optional<String> toYyyyMm() {
-    Optional<String> result = Objects.nonNull(this.value)
-            ? Optional.of(formatterYYYYMM.format(this.value))
+    Optional<String> result = !this.isEmpty()
+            ? Optional.of(BasicDateFormat.formatYearMonth(this.rawValue()))
             : Optional.empty();
     return result;
   }
@@ -87,7 +208,7 @@ public class GenericDate implements NullableDateType<GenericDate>,
   @Override
   public int hashCode() {
     int hash = 3;
-    hash = 97 * hash + Objects.hashCode(this.value);
+    hash = 97 * hash + this.epochDay;
     return hash;
   }
 
@@ -103,12 +224,19 @@ public class GenericDate implements NullableDateType<GenericDate>,
       return false;
     }
     final GenericDate other = (GenericDate) obj;
-    return Objects.equals(this.value, other.value);
+    return this.epochDay == other.epochDay;
   }
 
   @Override
   public String toString() {
-    return Objects.toString(value);
+    return Objects.toString(this.rawValue());
+  }
+
+  private static int toIntEpochDay(long epochDay) {
+    if (epochDay <= EMPTY || epochDay > Integer.MAX_VALUE) {
+      throw new DateTimeException("epochDay is out of range. epochDay = " + epochDay);
+    }
+    return (int) epochDay;
   }
 
 }
@@ -1,12 +1,11 @@
 package org.verneermlab.apps.common.domain.part.time;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.Optional;
 import org.verneermlab.base.domain.type.time.NullableDateTimeType;
+import org.verneermlab.base.utils.time.SlashDateTimeFormat;
 
 /**
  * 汎用日時.
@@ -15,11 +14,6 @@ import org.verneermlab.base.domain.type.time.NullableDateTimeType;
  */
 public class GenericDateTime implements NullableDateTimeType<GenericDateTime> {
 
-  private static final DateTimeFormatter formatterYYYYMMDD_Separator
-          = DateTimeFormatter.ofPattern("uuuu/MM/dd");
-  private static final DateTimeFormatter formatterYYYYMMDD_Second
-          = DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm:ss");
-
   private final LocalDateTime value;
 
   private GenericDateTime(LocalDateTime value) {
@@ -46,7 +40,7 @@ public class GenericDateTime implements NullableDateTimeType<GenericDateTime> {
     if (Objects.equals("", date)) {
       return new GenericDateTime(null);
     }
-    var localDate = LocalDate.parse(date, formatterYYYYMMDD_Separator);
+    var localDate = SlashDateTimeFormat.parseDate(date);
     var converted = LocalDateTime.of(localDate, LocalTime.MIN);
     return new GenericDateTime(converted);
   }
@@ -56,6 +50,11 @@ public class GenericDateTime implements NullableDateTimeType<GenericDateTime> {
     return Optional.ofNullable(value);
   }
 
+  @Override
+  public LocalDateTime rawValue() {
+    return value;
+  }
+
   /**
    * 日付文字列（YYYY/MM/DD形式）を返却します.
    *
@@ -63,7 +62,7 @@ public class GenericDateTime implements NullableDateTimeType<GenericDateTime> {
    */
   public Optional<String> toYyyyMmDdWithSeparator() {
     Optional<String> result = Objects.nonNull(value)
-            ? Optional.of(formatterYYYYMMDD_Separator.format(value))
+            ? Optional.of(SlashDateTimeFormat.formatDate(value.toLocalDate()))
             : Optional.empty();
     return result;
   }
@@ -75,11 +74,24 @@ public class GenericDateTime implements NullableDateTimeType<GenericDateTime> {
    */
   public Optional<String> toYyyyMmDdHhMmSs() {
     Optional<String> result = Objects.nonNull(value)
-            ? Optional.of(formatterYYYYMMDD_Second.format(value))
+            ? Optional.of(SlashDateTimeFormat.formatDateTime(value))
             : Optional.empty();
     return result;
   }
 
+  /**
+   * 日付文字列（YYYY/MM/DD hh:MM:ss）を追記します.
+   *
+   * @param builder 追記先
+   * @return 追記先. 値を保持していない場合は追記しません
+   */
+  public StringBuilder formatYyyyMmDdHhMmSsTo(StringBuilder builder) {
+    if (Objects.isNull(value)) {
+      return builder;
+    }
+    return SlashDateTimeFormat.formatDateTimeTo(value, builder);
+  }
+
   @Override
   public int hashCode() {
     int hash = 7;
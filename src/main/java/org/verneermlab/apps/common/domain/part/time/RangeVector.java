@@ -0,0 +1,82 @@
+package org.verneermlab.apps.common.domain.part.time;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 期間（日数、月数、年数）の列.
+ * <p>
+ * {@link DateVector}の期間計算の結果を、longの配列と値を保持しない要素のビットマップで保持します.
+ * </p>
+ * 値を保持しない要素の値は、{@link GenericDate#rangeDays(GenericDate)}などと同じく0とします.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class RangeVector {
+
+  private final long[] values;
+  private final long[] nullMask;
+
+  RangeVector(long[] values, long[] nullMask) {
+    this.values = values;
+    this.nullMask = nullMask;
+  }
+
+  /**
+   * 要素数を返却します.
+   *
+   * @return 要素数
+   */
+  public int size() {
+    return this.values.length;
+  }
+
+  /**
+   * 要素が値を保持していないか判定します.
+   * <p>
+   * 開始日または終了日が値を保持していない場合に、値を保持しない要素となります.
+   * </p>
+   *
+   * @param index 要素の位置
+   * @return 値を保持していない場合はtrue
+   * @throws IndexOutOfBoundsException 要素の位置が範囲外の場合
+   */
+  public boolean isNull(int index) {
+    Objects.checkIndex(index, this.values.length);
+    return (this.nullMask[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * 要素の値を返却します.
+   *
+   * @param index 要素の位置
+   * @return 期間. 値を保持していない場合は0
+   * @throws IndexOutOfBoundsException 要素の位置が範囲外の場合
+   */
+  public long get(int index) {
+    return this.values[Objects.checkIndex(index, this.values.length)];
+  }
+
+  /**
+   * 要素を配列で返却します.
+   *
+   * @return 期間の配列. 値を保持していない要素は0
+   */
+  public long[] toLongArray() {
+    return Arrays.copyOf(this.values, this.values.length);
+  }
+
+  /**
+   * 要素を配列で返却します.
+   *
+   * @return 期間の配列. 値を保持していない要素は0
+   * @throws ArithmeticException intの範囲を超える要素がある場合
+   */
+  public int[] toIntArray() {
+    var result = new int[this.values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = Math.toIntExact(this.values[i]);
+    }
+    return result;
+  }
+}
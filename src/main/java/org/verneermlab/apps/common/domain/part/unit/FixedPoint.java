@@ -0,0 +1,122 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.math.BigDecimal;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * longの非スケール値で保持する数値の計算.
+ * <p>
+ * 単価、数量などスケールが固定の数値クラスで、longで計算できる場合の計算を共通化します.
+ * </p>
+ * 値を保持していない場合の非スケール値は0とし、longで計算できない場合（桁あふれを含みます）は代替の計算結果を返却します.
+ *
+ * @author Yamashita.Takahiro
+ * @param <T> 計算対象の数値クラスの型
+ */
+final class FixedPoint<T> {
+
+  /**
+   * longの非スケール値で保持できる最大の精度.
+   */
+  static final int MAX_COMPACT_PRECISION = 18;
+
+  private final Predicate<T> longBacked;
+  private final ToLongFunction<T> unscaled;
+  private final LongFunction<T> factory;
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param longBacked longで計算できるか判定する関数
+   * @param unscaled 非スケール値を取得する関数（値を保持していない場合は0）
+   * @param factory 非スケール値からインスタンスを生成する関数
+   */
+  FixedPoint(Predicate<T> longBacked, ToLongFunction<T> unscaled, LongFunction<T> factory) {
+    this.longBacked = longBacked;
+    this.unscaled = unscaled;
+    this.factory = factory;
+  }
+
+  /**
+   * 丸めた値がlongの非スケール値で保持できるか判定します.
+   *
+   * @param scaled スケールを指定した値
+   * @return longの非スケール値で保持できる場合はtrue
+   */
+  static boolean isCompact(BigDecimal scaled) {
+    return scaled.precision() <= MAX_COMPACT_PRECISION;
+  }
+
+  /**
+   * 加算したインスタンスを返却します.
+   *
+   * @param self 計算元のインスタンス
+   * @param others 計算するインスタンスリスト
+   * @param fallback longで計算できない場合の計算
+   * @return 計算後のインスタンス
+   */
+  T plus(T self, Iterable<T> others, Supplier<T> fallback) {
+    return this.accumulate(self, others, Math::addExact, fallback);
+  }
+
+  /**
+   * 減算したインスタンスを返却します.
+   *
+   * @param self 計算元のインスタンス
+   * @param others 計算するインスタンスリスト
+   * @param fallback longで計算できない場合の計算
+   * @return 計算後のインスタンス
+   */
+  T minus(T self, Iterable<T> others, Supplier<T> fallback) {
+    return this.accumulate(self, others, Math::subtractExact, fallback);
+  }
+
+  /**
+   * 乗算したインスタンスを返却します.
+   * <p>
+   * 整数を乗じる場合のみlongで計算します.
+   * </p>
+   *
+   * @param self 計算元のインスタンス
+   * @param otherValue 計算に使用する数値
+   * @param fallback longで計算できない場合の計算
+   * @return 計算後のインスタンス
+   */
+  T multiply(T self, Number otherValue, Supplier<T> fallback) {
+    if (!this.longBacked.test(self) || !isIntegral(otherValue)) {
+      return fallback.get();
+    }
+    try {
+      return this.factory.apply(Math.multiplyExact(this.unscaled.applyAsLong(self), otherValue.longValue()));
+    } catch (ArithmeticException ex) {
+      return fallback.get();
+    }
+  }
+
+  private T accumulate(T self, Iterable<T> others, LongBinaryOperator operator, Supplier<T> fallback) {
+    if (!this.longBacked.test(self)) {
+      return fallback.get();
+    }
+    try {
+      long result = this.unscaled.applyAsLong(self);
+      for (var item : others) {
+        if (!this.longBacked.test(item)) {
+          return fallback.get();
+        }
+        result = operator.applyAsLong(result, this.unscaled.applyAsLong(item));
+      }
+      return this.factory.apply(result);
+    } catch (ArithmeticException ex) {
+      return fallback.get();
+    }
+  }
+
+  private static boolean isIntegral(Number value) {
+    return value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte;
+  }
+}
@@ -7,6 +7,8 @@ import java.util.Optional;
 import org.verneermlab.base.domain.type.numeric.behavior.Minus;
 import org.verneermlab.base.domain.type.numeric.behavior.Multiply;
 import org.verneermlab.base.domain.type.numeric.behavior.Plus;
+import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.numeric.BigDecimalConverter;
 
 /**
  * 率.
@@ -25,6 +27,10 @@ public class Percentage implements Plus<Percentage>, Minus<Percentage>, Multiply
   private static final int DEFAULT_SCALE = 5;
   private static final RoundingMode DEFAULT_ROUND_MODE = RoundingMode.HALF_UP;
 
+  static {
+    InstanceCreator.register(Percentage.class, BigDecimal.class, Percentage::new, Percentage::new);
+  }
+
   /**
    * プロパティはパーセント表記で保持します. 30.01%の場合は, 30.01
    */
@@ -49,7 +55,7 @@ public class Percentage implements Plus<Percentage>, Minus<Percentage>, Multiply
       return new Percentage();
     }
 
-    var bigDecimal = BigDecimal.valueOf(value.doubleValue()).movePointLeft(2);
+    var bigDecimal = BigDecimalConverter.toBigDecimal(value).movePointLeft(2);
     return new Percentage(bigDecimal);
   }
 
@@ -80,7 +86,7 @@ public class Percentage implements Plus<Percentage>, Minus<Percentage>, Multiply
     if (Objects.isNull(value)) {
       return new Percentage();
     }
-    var bigDecimal = BigDecimal.valueOf(value.doubleValue());
+    var bigDecimal = BigDecimalConverter.toBigDecimal(value);
     return new Percentage(bigDecimal);
   }
 
@@ -106,6 +112,11 @@ public class Percentage implements Plus<Percentage>, Minus<Percentage>, Multiply
     return Optional.ofNullable(this.value);
   }
 
+  @Override
+  public BigDecimal rawValue() {
+    return this.value;
+  }
+
   /**
    * プロパティ値を百分率表記にして返却します.
    *
@@ -0,0 +1,237 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 単価の列.
+ * <p>
+ * 大量の単価を集計するために、{@link Price}のインスタンスを保持せずlongの非スケール値の列として保持します.
+ * </p>
+ * 値を保持しない要素は{@link Price}と同じくZEROと同じ扱いで集計をします.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class PriceVector {
+
+  private final UnscaledColumn column;
+
+  private PriceVector(UnscaledColumn column) {
+    this.column = column;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param prices 単価リスト
+   * @return 生成したインスタンス
+   * @throws ArithmeticException longの非スケール値で保持できない単価を含む場合
+   */
+  public static PriceVector of(Collection<Price> prices) {
+    var builder = builder(prices.size());
+    for (var price : prices) {
+      builder.add(price);
+    }
+    return builder.build();
+  }
+
+  /**
+   * インスタンスを構築するビルダーを返却します.
+   *
+   * @param initialCapacity 初期の要素数
+   * @return ビルダー
+   */
+  public static Builder builder(int initialCapacity) {
+    return new Builder(initialCapacity);
+  }
+
+  /**
+   * 要素数を返却します.
+   *
+   * @return 要素数
+   */
+  public int size() {
+    return this.column.size();
+  }
+
+  /**
+   * 値を保持している要素数を返却します.
+   *
+   * @return 値を保持している要素数
+   */
+  public int count() {
+    return this.column.count();
+  }
+
+  /**
+   * 要素を返却します.
+   *
+   * @param index 要素の位置
+   * @return 単価
+   * @throws IndexOutOfBoundsException 要素の位置が範囲外の場合
+   */
+  public Price get(int index) {
+    Objects.checkIndex(index, this.column.size());
+    if (this.column.isNull(index)) {
+      return Price.of((Number) null);
+    }
+    return Price.ofUnscaled(this.column.get(index));
+  }
+
+  /**
+   * 合計を返却します.
+   * <p>
+   * longの範囲で計算し、桁あふれする場合はBigDecimalで計算します.
+   * </p>
+   *
+   * @return 合計. 要素がない場合はZERO
+   */
+  public Price sum() {
+    try {
+      return Price.ofUnscaled(this.column.sum());
+    } catch (ArithmeticException ex) {
+      return Price.of(this.column.sumDecimal(0));
+    }
+  }
+
+  /**
+   * 値を保持している要素の最小値を返却します.
+   *
+   * @return 最小値. 値を保持している要素がない場合は値を保持しないインスタンス
+   */
+  public Price min() {
+    if (this.column.count() == 0) {
+      return Price.of((Number) null);
+    }
+    return Price.ofUnscaled(this.column.min());
+  }
+
+  /**
+   * 値を保持している要素の最大値を返却します.
+   *
+   * @return 最大値. 値を保持している要素がない場合は値を保持しないインスタンス
+   */
+  public Price max() {
+    if (this.column.count() == 0) {
+      return Price.of((Number) null);
+    }
+    return Price.ofUnscaled(this.column.max());
+  }
+
+  /**
+   * 全要素に数値を乗算した列を返却します.
+   *
+   * @param scalar 乗数
+   * @return 計算後の列. 値を保持していない要素は計算後も値を保持しません.
+   * @throws ArithmeticException 計算結果がlongの範囲を超える場合
+   */
+  public PriceVector multiply(long scalar) {
+    return new PriceVector(this.column.multiply(scalar));
+  }
+
+  /**
+   * 要素ごとに数量を乗算した金額の列を返却します.
+   * <p>
+   * 各要素は{@link Price#multiply(Quantity)}と同じく、単価のスケールで四捨五入します.
+   * </p>
+   * いずれかの要素が値を保持していない場合、計算後の要素も値を保持しません.
+   * 値を保持していない数量を0として計算する{@link Price#multiply(Quantity)}とは、この点が異なります.
+   *
+   * @param quantities 数量の列
+   * @return 金額の列
+   * @throws IllegalArgumentException 要素数が異なる場合
+   * @throws ArithmeticException 計算結果がlongの範囲を超える場合
+   */
+  public PriceVector multiply(QuantityVector quantities) {
+    return new PriceVector(this.column.multiply(quantities.column(), QuantityVector.UNSCALED_DIVISOR));
+  }
+
+  /**
+   * 要素ごとに数量を乗算した金額の合計を返却します.
+   * <p>
+   * {@link #multiply(QuantityVector)}の合計と同じ値を、金額の列を生成せずに計算します.
+   * longの範囲で計算し、桁あふれする場合はBigDecimalで計算します.
+   * </p>
+   *
+   * @param quantities 数量の列
+   * @return 金額の合計. 要素がない場合はZERO
+   * @throws IllegalArgumentException 要素数が異なる場合
+   */
+  public Price sumAmount(QuantityVector quantities) {
+    try {
+      return Price.ofUnscaled(this.column.sumProduct(quantities.column(), QuantityVector.UNSCALED_DIVISOR));
+    } catch (ArithmeticException ex) {
+      return Price.of(this.column.sumProductDecimal(quantities.column(), QuantityVector.SCALE, 0));
+    }
+  }
+
+  /**
+   * 要素をリストで返却します.
+   *
+   * @return 単価リスト
+   */
+  public List<Price> toList() {
+    var result = new ArrayList<Price>(this.column.size());
+    for (int i = 0; i < this.column.size(); i++) {
+      result.add(this.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * 単価の列を構築します.
+   */
+  public static final class Builder {
+
+    private final UnscaledColumn.Builder column;
+
+    private Builder(int initialCapacity) {
+      this.column = new UnscaledColumn.Builder(initialCapacity);
+    }
+
+    /**
+     * 要素を追加します.
+     *
+     * @param price 単価
+     * @return 自インスタンス
+     * @throws ArithmeticException longの非スケール値で保持できない単価の場合
+     */
+    public Builder add(Price price) {
+      if (price.isEmpty()) {
+        this.column.addNull();
+        return this;
+      }
+      this.column.add(price.unscaledValueExact());
+      return this;
+    }
+
+    /**
+     * 要素を追加します.
+     * <p>
+     * {@link Price#of(Number)}と同じく変換します.
+     * </p>
+     *
+     * @param value 値
+     * @return 自インスタンス
+     * @throws ArithmeticException longの非スケール値で保持できない値の場合
+     */
+    public Builder add(Number value) {
+      if (value instanceof Integer || value instanceof Long) {
+        this.column.add(value.longValue());
+        return this;
+      }
+      return this.add(Price.of(value));
+    }
+
+    /**
+     * インスタンスを生成します.
+     *
+     * @return 生成したインスタンス
+     */
+    public PriceVector build() {
+      return new PriceVector(this.column.build());
+    }
+  }
+}
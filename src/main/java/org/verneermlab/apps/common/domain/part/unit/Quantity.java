@@ -2,14 +2,17 @@ package org.verneermlab.apps.common.domain.part.unit;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.text.DecimalFormat;
-import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
 import org.verneermlab.base.domain.type.numeric.behavior.Divide;
 import org.verneermlab.base.domain.type.numeric.behavior.Minus;
 import org.verneermlab.base.domain.type.numeric.behavior.Multiply;
 import org.verneermlab.base.domain.type.numeric.behavior.Plus;
+import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.numeric.BigDecimalConverter;
+import org.verneermlab.base.utils.numeric.GroupingDecimalFormatter;
 
 /**
  * 数量.
@@ -18,18 +21,47 @@ import org.verneermlab.base.domain.type.numeric.behavior.Plus;
  */
 public class Quantity implements Plus<Quantity>, Minus<Quantity>, Multiply<Quantity>, Divide<Quantity> {
 
-  private static final DecimalFormat decimalFormat = new DecimalFormat("#,##0.00");
   private static final int DEFAULT_SCALE = 2;
   private static final RoundingMode DEFAULT_ROUND_MODE = RoundingMode.HALF_UP;
+  private static final GroupingDecimalFormatter formatter = GroupingDecimalFormatter.of(DEFAULT_SCALE);
+  private static final FixedPoint<Quantity> fixedPoint
+          = new FixedPoint<>(Quantity::isLongBacked, item -> item.unscaledValue, Quantity::new);
 
-  private final BigDecimal value;
+  static {
+    InstanceCreator.register(Quantity.class, BigDecimal.class, Quantity::new, Quantity::new);
+  }
+
+  /**
+   * 値をlongの非スケール値で保持している場合はtrue.
+   */
+  private final boolean compact;
+
+  /**
+   * スケールを{@value #DEFAULT_SCALE}とした非スケール値（compactの場合のみ有効、値を保持しない場合は0）.
+   */
+  private final long unscaledValue;
+
+  /**
+   * プロパティ値. compactの場合は参照時に生成します.
+   */
+  private BigDecimal value;
 
   private Quantity() {
+    this.compact = false;
+    this.unscaledValue = 0L;
     this.value = null;
   }
 
   private Quantity(BigDecimal value) {
-    this.value = value.setScale(DEFAULT_SCALE, DEFAULT_ROUND_MODE);
+    var scaled = value.setScale(DEFAULT_SCALE, DEFAULT_ROUND_MODE);
+    this.compact = FixedPoint.isCompact(scaled);
+    this.unscaledValue = this.compact ? scaled.unscaledValue().longValue() : 0L;
+    this.value = scaled;
+  }
+
+  private Quantity(long unscaledValue) {
+    this.compact = true;
+    this.unscaledValue = unscaledValue;
   }
 
   /**
@@ -43,7 +75,7 @@ public class Quantity implements Plus<Quantity>, Minus<Quantity>, Multiply<Quant
       return new Quantity();
     }
 
-    var bigDecimal = BigDecimal.valueOf(value.doubleValue());
+    var bigDecimal = BigDecimalConverter.toBigDecimal(value);
     return new Quantity(bigDecimal);
   }
 
@@ -72,17 +104,107 @@ public class Quantity implements Plus<Quantity>, Minus<Quantity>, Multiply<Quant
       return new Quantity();
     }
     try {
-      var number = decimalFormat.parse(value);
-      var bigDecimal = new BigDecimal(number.toString());
+      var bigDecimal = formatter.parse(value);
       return new Quantity(bigDecimal);
-    } catch (ParseException ex) {
+    } catch (NumberFormatException ex) {
       throw new NumberFormatException("Quantity could not parse value = " + value);
     }
   }
 
+  /**
+   * 非スケール値からインスタンスを生成します.
+   *
+   * @param unscaledValue スケールを{@value #DEFAULT_SCALE}とした非スケール値
+   * @return 生成したインスタンス
+   */
+  static Quantity ofUnscaled(long unscaledValue) {
+    return new Quantity(unscaledValue);
+  }
+
+  /**
+   * スケールを{@value #DEFAULT_SCALE}とした非スケール値を返却します.
+   *
+   * @return 非スケール値
+   * @throws ArithmeticException 値を保持していない場合、またはlongの非スケール値で保持していない場合
+   */
+  long unscaledValueExact() {
+    if (!this.compact) {
+      throw new ArithmeticException("Quantity is not held as long. value = " + this.value);
+    }
+    return this.unscaledValue;
+  }
+
   @Override
   public Optional<BigDecimal> getNullableValue() {
-    return Optional.ofNullable(this.value);
+    return Optional.ofNullable(this.decimalValue());
+  }
+
+  @Override
+  public BigDecimal rawValue() {
+    return this.decimalValue();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !this.compact && this.value == null;
+  }
+
+  /**
+   * 加算したインスタンスを返却します.
+   * <p>
+   * 全ての値がlongで保持できる場合はlongで計算し、桁あふれする場合はBigDecimalで計算します.
+   * </p>
+   *
+   * @param other 計算するインスタンス
+   * @return 計算後のインスタンス
+   */
+  @Override
+  public Quantity plus(Quantity... other) {
+    return fixedPoint.plus(this, Arrays.asList(other), () -> Plus.super.plus(other));
+  }
+
+  /**
+   * 複数要素を加算します.
+   * <p>
+   * 全ての値がlongで保持できる場合はlongで計算し、桁あふれする場合はBigDecimalで計算します.
+   * </p>
+   *
+   * @param others 計算するインスタンスリスト
+   * @return 計算後のインスタンス
+   */
+  @Override
+  public Quantity plusAll(Collection<Quantity> others) {
+    return fixedPoint.plus(this, others, () -> Plus.super.plusAll(others));
+  }
+
+  /**
+   * 減算したインスタンスを返却します.
+   * <p>
+   * 全ての値がlongで保持できる場合はlongで計算し、桁あふれする場合はBigDecimalで計算します.
+   * </p>
+   *
+   * @param other 計算するインスタンス
+   * @return 計算後のインスタンス
+   */
+  @Override
+  public Quantity minus(Quantity... other) {
+    return fixedPoint.minus(this, Arrays.asList(other), () -> Minus.super.minus(other));
+  }
+
+  /**
+   * 乗算したインスタンスを返却します.
+   * <p>
+   * 自インスタンスがlongで保持できて整数を乗じる場合はlongで計算し、それ以外はBigDecimalで計算します.
+   * </p>
+   *
+   * @param <U> 引数の数値の型
+   * @param otherValue 計算に使用する数値. 直接数値を指定することを想定しているため、Nullを許容しません.
+   * @return 計算後のインスタンス
+   * @throws NullPointerException otherがNullの場合
+   */
+  @Override
+  public <U extends Number> Quantity multiply(U otherValue) {
+    return fixedPoint.multiply(this, otherValue, () -> Multiply.super.multiply(otherValue));
   }
 
   /**
@@ -143,14 +265,32 @@ public class Quantity implements Plus<Quantity>, Minus<Quantity>, Multiply<Quant
     return DEFAULT_ROUND_MODE;
   }
 
+  /**
+   * 書式変換をした文字列を返却します.
+   *
+   * @return 変換した文字列
+   */
   public String toFormatted() {
-    return decimalFormat.format(this.getOrZero());
+    return this.formatTo(new StringBuilder(32)).toString();
+  }
+
+  /**
+   * 書式変換をした文字列を追記します.
+   *
+   * @param builder 追記先
+   * @return 追記先
+   */
+  public StringBuilder formatTo(StringBuilder builder) {
+    if (this.isLongBacked()) {
+      return formatter.formatTo(this.unscaledValue, builder);
+    }
+    return formatter.formatTo(this.value, builder);
   }
 
   @Override
   public int hashCode() {
     int hash = 3;
-    hash = 58 * hash + Objects.hashCode(this.value);
+    hash = 58 * hash + Objects.hashCode(this.decimalValue());
     return hash;
   }
 
@@ -171,7 +311,25 @@ public class Quantity implements Plus<Quantity>, Minus<Quantity>, Multiply<Quant
 
   @Override
   public String toString() {
-    return Objects.toString(value);
+    return Objects.toString(this.decimalValue());
+  }
+
+  /**
+   * longで計算できるか判定します.
+   *
+   * @return longの非スケール値で保持している場合または値を保持していない場合はtrue
+   */
+  private boolean isLongBacked() {
+    return this.compact || this.value == null;
+  }
+
+  private BigDecimal decimalValue() {
+    var decimal = this.value;
+    if (decimal == null && this.compact) {
+      decimal = BigDecimal.valueOf(this.unscaledValue, DEFAULT_SCALE);
+      this.value = decimal;
+    }
+    return decimal;
   }
 
 }
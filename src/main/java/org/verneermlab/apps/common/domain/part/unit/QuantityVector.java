@@ -0,0 +1,220 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 数量の列.
+ * <p>
+ * 大量の数量を集計するために、{@link Quantity}のインスタンスを保持せずlongの非スケール値の列として保持します.
+ * </p>
+ * 値を保持しない要素は{@link Quantity}と同じくZEROと同じ扱いで集計をします.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class QuantityVector {
+
+  /**
+   * 非スケール値のスケール.
+   */
+  static final int SCALE = 2;
+
+  /**
+   * スケールを{@value #SCALE}とした非スケール値からスケールを戻す除数.
+   */
+  static final long UNSCALED_DIVISOR = 100L;
+
+  private final UnscaledColumn column;
+
+  private QuantityVector(UnscaledColumn column) {
+    this.column = column;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param quantities 数量リスト
+   * @return 生成したインスタンス
+   * @throws ArithmeticException longの非スケール値で保持できない数量を含む場合
+   */
+  public static QuantityVector of(Collection<Quantity> quantities) {
+    var builder = builder(quantities.size());
+    for (var quantity : quantities) {
+      builder.add(quantity);
+    }
+    return builder.build();
+  }
+
+  /**
+   * インスタンスを構築するビルダーを返却します.
+   *
+   * @param initialCapacity 初期の要素数
+   * @return ビルダー
+   */
+  public static Builder builder(int initialCapacity) {
+    return new Builder(initialCapacity);
+  }
+
+  /**
+   * 要素数を返却します.
+   *
+   * @return 要素数
+   */
+  public int size() {
+    return this.column.size();
+  }
+
+  /**
+   * 値を保持している要素数を返却します.
+   *
+   * @return 値を保持している要素数
+   */
+  public int count() {
+    return this.column.count();
+  }
+
+  /**
+   * 要素を返却します.
+   *
+   * @param index 要素の位置
+   * @return 数量
+   * @throws IndexOutOfBoundsException 要素の位置が範囲外の場合
+   */
+  public Quantity get(int index) {
+    Objects.checkIndex(index, this.column.size());
+    if (this.column.isNull(index)) {
+      return Quantity.of((Number) null);
+    }
+    return Quantity.ofUnscaled(this.column.get(index));
+  }
+
+  /**
+   * 合計を返却します.
+   * <p>
+   * longの範囲で計算し、桁あふれする場合はBigDecimalで計算します.
+   * </p>
+   *
+   * @return 合計. 要素がない場合はZERO
+   */
+  public Quantity sum() {
+    try {
+      return Quantity.ofUnscaled(this.column.sum());
+    } catch (ArithmeticException ex) {
+      return Quantity.of(this.column.sumDecimal(SCALE));
+    }
+  }
+
+  /**
+   * 値を保持している要素の最小値を返却します.
+   *
+   * @return 最小値. 値を保持している要素がない場合は値を保持しないインスタンス
+   */
+  public Quantity min() {
+    if (this.column.count() == 0) {
+      return Quantity.of((Number) null);
+    }
+    return Quantity.ofUnscaled(this.column.min());
+  }
+
+  /**
+   * 値を保持している要素の最大値を返却します.
+   *
+   * @return 最大値. 値を保持している要素がない場合は値を保持しないインスタンス
+   */
+  public Quantity max() {
+    if (this.column.count() == 0) {
+      return Quantity.of((Number) null);
+    }
+    return Quantity.ofUnscaled(this.column.max());
+  }
+
+  /**
+   * 全要素に数値を乗算した列を返却します.
+   *
+   * @param scalar 乗数
+   * @return 計算後の列. 値を保持していない要素は計算後も値を保持しません.
+   * @throws ArithmeticException 計算結果がlongの範囲を超える場合
+   */
+  public QuantityVector multiply(long scalar) {
+    return new QuantityVector(this.column.multiply(scalar));
+  }
+
+  /**
+   * 非スケール値の列を返却します.
+   *
+   * @return 非スケール値の列
+   */
+  UnscaledColumn column() {
+    return this.column;
+  }
+
+  /**
+   * 要素をリストで返却します.
+   *
+   * @return 数量リスト
+   */
+  public List<Quantity> toList() {
+    var result = new ArrayList<Quantity>(this.column.size());
+    for (int i = 0; i < this.column.size(); i++) {
+      result.add(this.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * 数量の列を構築します.
+   */
+  public static final class Builder {
+
+    private final UnscaledColumn.Builder column;
+
+    private Builder(int initialCapacity) {
+      this.column = new UnscaledColumn.Builder(initialCapacity);
+    }
+
+    /**
+     * 要素を追加します.
+     *
+     * @param quantity 数量
+     * @return 自インスタンス
+     * @throws ArithmeticException longの非スケール値で保持できない数量の場合
+     */
+    public Builder add(Quantity quantity) {
+      if (quantity.isEmpty()) {
+        this.column.addNull();
+        return this;
+      }
+      this.column.add(quantity.unscaledValueExact());
+      return this;
+    }
+
+    /**
+     * 要素を追加します.
+     * <p>
+     * {@link Quantity#of(Number)}と同じく変換します.
+     * </p>
+     *
+     * @param value 値
+     * @return 自インスタンス
+     * @throws ArithmeticException longの非スケール値で保持できない値の場合
+     */
+    public Builder add(Number value) {
+      if (value instanceof Integer || value instanceof Long) {
+        this.column.add(Math.multiplyExact(value.longValue(), UNSCALED_DIVISOR));
+        return this;
+      }
+      return this.add(Quantity.of(value));
+    }
+
+    /**
+     * インスタンスを生成します.
+     *
+     * @return 生成したインスタンス
+     */
+    public QuantityVector build() {
+      return new QuantityVector(this.column.build());
+    }
+  }
+}
@@ -0,0 +1,337 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * 非スケール値を列形式で保持する数値列.
+ * <p>
+ * 値はlongの配列で保持し、値を保持しない要素はビットマップで管理します.
+ * </p>
+ * 値を保持しない要素の非スケール値は0とするため、合計や乗算はビットマップを参照せずに計算できます.
+ *
+ * @author Yamashita.Takahiro
+ */
+final class UnscaledColumn {
+
+  private static final long LOW_MASK = 0xFFFFFFFFL;
+
+  private final long[] values;
+  private final long[] nullMask;
+  private final int nullCount;
+
+  private UnscaledColumn(long[] values, long[] nullMask, int nullCount) {
+    this.values = values;
+    this.nullMask = nullMask;
+    this.nullCount = nullCount;
+  }
+
+  /**
+   * 要素数を返却します.
+   *
+   * @return 要素数
+   */
+  int size() {
+    return this.values.length;
+  }
+
+  /**
+   * 値を保持している要素数を返却します.
+   *
+   * @return 値を保持している要素数
+   */
+  int count() {
+    return this.values.length - this.nullCount;
+  }
+
+  /**
+   * 要素が値を保持していないか判定します.
+   *
+   * @param index 要素の位置
+   * @return 値を保持していない場合はtrue
+   */
+  boolean isNull(int index) {
+    return (this.nullMask[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * 要素の非スケール値を返却します.
+   *
+   * @param index 要素の位置
+   * @return 非スケール値. 値を保持していない場合は0
+   */
+  long get(int index) {
+    return this.values[index];
+  }
+
+  /**
+   * 全要素の非スケール値を合計します.
+   * <p>
+   * 非スケール値を上位32bitと下位32bitに分けて分岐なしで加算することで、JITコンパイラがSIMD命令へ変換できるループとします.
+   * </p>
+   *
+   * @return 合計値
+   * @throws ArithmeticException 合計値がlongの範囲を超える場合
+   */
+  long sum() {
+    long high = 0L;
+    long low = 0L;
+    for (long value : this.values) {
+      high += value >> 32;
+      low += value & LOW_MASK;
+    }
+    high += low >>> 32;
+    low &= LOW_MASK;
+    return Math.multiplyExact(high, 1L << 32) + low;
+  }
+
+  /**
+   * 全要素を桁あふれせずに合計します.
+   *
+   * @param scale 非スケール値のスケール
+   * @return 合計値
+   */
+  BigDecimal sumDecimal(int scale) {
+    long high = 0L;
+    long low = 0L;
+    for (long value : this.values) {
+      high += value >> 32;
+      low += value & LOW_MASK;
+    }
+    var result = BigInteger.valueOf(high).shiftLeft(32).add(BigInteger.valueOf(low));
+    return new BigDecimal(result, scale);
+  }
+
+  /**
+   * 要素ごとに乗算した値を合計します.
+   * <p>
+   * 乗算結果は{@link #multiply(UnscaledColumn, long)}と同じく除数で除算して四捨五入し、数値列を生成せずに合計します.
+   * </p>
+   *
+   * @param other 乗算する数値列
+   * @param divisor 乗算結果のスケールを調整する除数
+   * @return 合計値
+   * @throws IllegalArgumentException 要素数が異なる場合
+   * @throws ArithmeticException 乗算結果または合計値がlongの範囲を超える場合
+   */
+  long sumProduct(UnscaledColumn other, long divisor) {
+    this.requireSameSize(other);
+    long result = 0L;
+    for (int i = 0; i < this.values.length; i++) {
+      result = Math.addExact(result, divideHalfUp(Math.multiplyExact(this.values[i], other.values[i]), divisor));
+    }
+    return result;
+  }
+
+  /**
+   * 要素ごとに乗算した値を桁あふれせずに合計します.
+   *
+   * @param other 乗算する数値列
+   * @param otherScale 乗算する数値列の非スケール値のスケール
+   * @param scale 合計値のスケール
+   * @return 合計値
+   * @throws IllegalArgumentException 要素数が異なる場合
+   */
+  BigDecimal sumProductDecimal(UnscaledColumn other, int otherScale, int scale) {
+    this.requireSameSize(other);
+    var result = BigDecimal.ZERO;
+    for (int i = 0; i < this.values.length; i++) {
+      var product = BigDecimal.valueOf(this.values[i], scale).multiply(BigDecimal.valueOf(other.values[i], otherScale));
+      result = result.add(product.setScale(scale, RoundingMode.HALF_UP));
+    }
+    return result;
+  }
+
+  /**
+   * 値を保持している要素の最小値を返却します.
+   * <p>
+   * ビットマップを64要素ずつ参照し、値を保持しない要素を含まない範囲は分岐なしのループで計算します.
+   * </p>
+   *
+   * @return 最小値. 値を保持している要素がない場合は{@link Long#MAX_VALUE}
+   */
+  long min() {
+    long result = Long.MAX_VALUE;
+    for (int word = 0; word < this.nullMask.length; word++) {
+      long mask = this.nullMask[word];
+      int from = word << 6;
+      int to = Math.min(from + 64, this.values.length);
+      if (mask == 0L) {
+        for (int i = from; i < to; i++) {
+          result = Math.min(result, this.values[i]);
+        }
+        continue;
+      }
+      long present = ~mask;
+      while (present != 0L) {
+        int i = from + Long.numberOfTrailingZeros(present);
+        if (i >= to) {
+          break;
+        }
+        result = Math.min(result, this.values[i]);
+        present &= present - 1;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 値を保持している要素の最大値を返却します.
+   * <p>
+   * ビットマップを64要素ずつ参照し、値を保持しない要素を含まない範囲は分岐なしのループで計算します.
+   * </p>
+   *
+   * @return 最大値. 値を保持している要素がない場合は{@link Long#MIN_VALUE}
+   */
+  long max() {
+    long result = Long.MIN_VALUE;
+    for (int word = 0; word < this.nullMask.length; word++) {
+      long mask = this.nullMask[word];
+      int from = word << 6;
+      int to = Math.min(from + 64, this.values.length);
+      if (mask == 0L) {
+        for (int i = from; i < to; i++) {
+          result = Math.max(result, this.values[i]);
+        }
+        continue;
+      }
+      long present = ~mask;
+      while (present != 0L) {
+        int i = from + Long.numberOfTrailingZeros(present);
+        if (i >= to) {
+          break;
+        }
+        result = Math.max(result, this.values[i]);
+        present &= present - 1;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * 全要素に数値を乗算した数値列を返却します.
+   *
+   * @param scalar 乗数
+   * @return 計算後の数値列. 値を保持していない要素は計算後も値を保持しません.
+   * @throws ArithmeticException 計算結果がlongの範囲を超える場合
+   */
+  UnscaledColumn multiply(long scalar) {
+    var result = new long[this.values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = Math.multiplyExact(this.values[i], scalar);
+    }
+    return new UnscaledColumn(result, this.nullMask, this.nullCount);
+  }
+
+  /**
+   * 要素ごとに乗算した数値列を返却します.
+   * <p>
+   * 乗算結果を除数で除算し、四捨五入（{@link java.math.RoundingMode#HALF_UP}）した値を要素とします.
+   * </p>
+   * いずれかの要素が値を保持していない場合、計算後の要素も値を保持しません.
+   *
+   * @param other 乗算する数値列
+   * @param divisor 乗算結果のスケールを調整する除数
+   * @return 計算後の数値列
+   * @throws IllegalArgumentException 要素数が異なる場合
+   * @throws ArithmeticException 計算結果がlongの範囲を超える場合
+   */
+  UnscaledColumn multiply(UnscaledColumn other, long divisor) {
+    this.requireSameSize(other);
+    var result = new long[this.values.length];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = divideHalfUp(Math.multiplyExact(this.values[i], other.values[i]), divisor);
+    }
+    if (this.nullCount == 0 && other.nullCount == 0) {
+      return new UnscaledColumn(result, this.nullMask, 0);
+    }
+    var mask = new long[this.nullMask.length];
+    int resultNullCount = 0;
+    for (int i = 0; i < mask.length; i++) {
+      mask[i] = this.nullMask[i] | other.nullMask[i];
+      resultNullCount += Long.bitCount(mask[i]);
+    }
+    return new UnscaledColumn(result, mask, resultNullCount);
+  }
+
+  private void requireSameSize(UnscaledColumn other) {
+    if (this.values.length != other.values.length) {
+      throw new IllegalArgumentException("column size is not same. size = "
+              + this.values.length + ", other size = " + other.values.length);
+    }
+  }
+
+  private static long divideHalfUp(long dividend, long divisor) {
+    long quotient = dividend / divisor;
+    long remainder = dividend % divisor;
+    if (Math.abs(remainder) * 2 >= divisor) {
+      quotient += Long.signum(dividend);
+    }
+    return quotient;
+  }
+
+  /**
+   * 数値列を構築します.
+   */
+  static final class Builder {
+
+    private long[] values;
+    private long[] nullMask;
+    private int size;
+    private int nullCount;
+
+    /**
+     * インスタンスを生成します.
+     *
+     * @param initialCapacity 初期の要素数
+     */
+    Builder(int initialCapacity) {
+      this.values = new long[Math.max(initialCapacity, 1)];
+      this.nullMask = new long[wordCount(this.values.length)];
+    }
+
+    /**
+     * 非スケール値を追加します.
+     *
+     * @param unscaledValue 非スケール値
+     */
+    void add(long unscaledValue) {
+      this.ensureCapacity();
+      this.values[this.size++] = unscaledValue;
+    }
+
+    /**
+     * 値を保持しない要素を追加します.
+     */
+    void addNull() {
+      this.ensureCapacity();
+      this.nullMask[this.size >>> 6] |= 1L << this.size;
+      this.size++;
+      this.nullCount++;
+    }
+
+    /**
+     * 数値列を生成します.
+     *
+     * @return 生成した数値列
+     */
+    UnscaledColumn build() {
+      return new UnscaledColumn(Arrays.copyOf(this.values, this.size),
+              Arrays.copyOf(this.nullMask, wordCount(this.size)), this.nullCount);
+    }
+
+    private void ensureCapacity() {
+      if (this.size < this.values.length) {
+        return;
+      }
+      this.values = Arrays.copyOf(this.values, this.values.length * 2);
+      this.nullMask = Arrays.copyOf(this.nullMask, wordCount(this.values.length));
+    }
+
+    private static int wordCount(int size) {
+      return (size + 63) >>> 6;
+    }
+  }
+}
@@ -25,4 +25,18 @@ public interface SinglePropertyObjectType<T> {
    */
   Optional<T> getNullableValue();
 
+  /**
+   * 要素のプロパティの値をOptionalで包まずに返却します.
+   * <p>
+   * 振る舞いを提供するインターフェースの内部で使用することを想定しています.
+   * 使用側では{@link #getNullableValue()}を使用してください.
+   * </p>
+   * デフォルトは{@link #getNullableValue()}から取得するため、具象クラスでは保持している値を直接返却するように上書きします.
+   *
+   * @return プロパティの値. 値を保持していない場合は<code>null</code>
+   */
+  default T rawValue() {
+    return this.getNullableValue().orElse(null);
+  }
+
 }
@@ -2,6 +2,7 @@ package org.verneermlab.base.domain.type.numeric;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Objects;
 import org.verneermlab.base.domain.type.SinglePropertyObjectType;
 
 /**
@@ -21,7 +22,7 @@ public interface NullableNumberType<T> extends SinglePropertyObjectType<BigDecim
    * @return <code>null</code>の場合はZERO
    */
   default BigDecimal getOrZero() {
-    return this.getNullableValue().orElse(BigDecimal.ZERO);
+    return Objects.requireNonNullElse(this.rawValue(), BigDecimal.ZERO);
   }
 
   /**
@@ -30,7 +31,7 @@ public interface NullableNumberType<T> extends SinglePropertyObjectType<BigDecim
    * @return nullの場合はtrue
    */
   default boolean isEmpty() {
-    return this.getNullableValue().isEmpty();
+    return Objects.isNull(this.rawValue());
   }
 
   /**
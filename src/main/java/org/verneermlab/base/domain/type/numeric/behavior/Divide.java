@@ -6,6 +6,7 @@ import java.util.Objects;
 import java.util.function.Function;
 import org.verneermlab.base.domain.type.numeric.NullableNumberType;
 import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.numeric.BigDecimalConverter;
 
 /**
  * 除算計算.
@@ -119,7 +120,7 @@ public interface Divide<T extends NullableNumberType<T>> extends NullableNumberT
       throw new NullPointerException();
     }
 
-    var other = BigDecimal.valueOf(otherValue.doubleValue());
+    var other = BigDecimalConverter.toBigDecimal(otherValue);
 
     if (other.compareTo(BigDecimal.ZERO) == 0) {
       return this.newInstanceFromThis(BigDecimal.ZERO);
@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.function.Function;
 import org.verneermlab.base.domain.type.numeric.NullableNumberType;
 import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.numeric.BigDecimalConverter;
 
 /**
  * 乗算計算.
@@ -40,7 +41,7 @@ public interface Multiply<T extends NullableNumberType<T>> extends NullableNumbe
     if (Objects.isNull(otherValue)) {
       throw new NullPointerException();
     }
-    var other = BigDecimal.valueOf(otherValue.doubleValue());
+    var other = BigDecimalConverter.toBigDecimal(otherValue);
     var result = this.getOrZero().multiply(other);
     return this.newInstanceFromThis(result);
   }
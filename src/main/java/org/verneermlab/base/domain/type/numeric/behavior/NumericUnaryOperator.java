@@ -20,7 +20,7 @@ public interface NumericUnaryOperator<T> extends NullableNumberType<T>, Instance
    * @return 編集後の新しいインスタンス.
    */
   default T apply(UnaryOperator<BigDecimal> callback) {
-    BigDecimal updated = callback.apply(this.getNullableValue().orElse(null));
+    BigDecimal updated = callback.apply(this.rawValue());
     return newInstanceFromThis(updated);
   }
 }
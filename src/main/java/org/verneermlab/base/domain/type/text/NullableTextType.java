@@ -17,7 +17,7 @@ public interface NullableTextType<T> extends SinglePropertyObjectType<String> {
    * @return <code>null</code>の場合は空文字
    */
   default String getOrDefault() {
-    return this.getNullableValue().orElse("");
+    return Objects.requireNonNullElse(this.rawValue(), "");
   }
 
   /**
@@ -26,7 +26,8 @@ public interface NullableTextType<T> extends SinglePropertyObjectType<String> {
    * @return 空文字またはnullの場合はtrue
    */
   default boolean isEmpty() {
-    return Objects.equals("", this.getNullableValue().orElse(""));
+    var value = this.rawValue();
+    return Objects.isNull(value) || value.isEmpty();
   }
 
   /**
@@ -50,7 +51,7 @@ public interface NullableTextType<T> extends SinglePropertyObjectType<String> {
       return false;
     }
 
-    var result = this.getNullableValue().get().contains(other.getNullableValue().get());
+    var result = this.rawValue().contains(other.rawValue());
     return result;
   }
 
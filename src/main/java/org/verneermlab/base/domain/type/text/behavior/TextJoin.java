@@ -1,12 +1,9 @@
 package org.verneermlab.base.domain.type.text.behavior;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.Collection;
 import org.verneermlab.base.domain.type.text.NullableTextType;
 import org.verneermlab.base.internal.domain.type.InstanceCreator;
+import org.verneermlab.base.utils.text.TextJoiner;
 
 /**
  * 文字列を結合.
@@ -25,16 +22,18 @@ public interface TextJoin<T extends NullableTextType<T>> extends NullableTextTyp
    */
   @SuppressWarnings("unchecked")
   default T join(T delimiter, T... appendText) {
-    List<String> strList = new ArrayList<>();
-    strList.add(this.getNullableValue().orElse(""));
-
-    List<String> appendStrList = Stream.of(appendText).map(e -> e.getNullableValue().orElse("")).collect(Collectors.toList());
-    strList.addAll(appendStrList);
-
-    var delimiterStr = Objects.isNull(delimiter) ? "" : delimiter.getNullableValue().orElse("");
+    return this.newInstanceFromThis(TextJoiner.of(delimiter).joinFrom(this, appendText));
+  }
 
-    var str = String.join(delimiterStr, strList);
-    return this.newInstanceFromThis(str);
+  /**
+   * 文字列を結合したインスタンスを返却します.
+   *
+   * @param delimiter 区切り文字
+   * @param appendTexts 連結文字のリスト
+   * @return 文字列を結合した文字インスタンス
+   */
+  default T joinAll(T delimiter, Collection<? extends T> appendTexts) {
+    return this.newInstanceFromThis(TextJoiner.of(delimiter).joinFrom(this, appendTexts));
   }
 
   /**
@@ -47,4 +46,14 @@ public interface TextJoin<T extends NullableTextType<T>> extends NullableTextTyp
   default T concat(T... appendText) {
     return this.join(null, appendText);
   }
+
+  /**
+   * 文字列を結合したインスタンスを返却します.
+   *
+   * @param appendTexts 連結文字のリスト
+   * @return 文字列を結合した文字インスタンス
+   */
+  default T concatAll(Collection<? extends T> appendTexts) {
+    return this.joinAll(null, appendTexts);
+  }
 }
@@ -1,7 +1,8 @@
 package org.verneermlab.base.domain.type.text.behavior;
 
-import java.text.BreakIterator;
+import java.util.Objects;
 import org.verneermlab.base.domain.type.text.NullableTextType;
+import org.verneermlab.base.utils.text.GraphemeIndex;
 
 /**
  * 文字列の文字数.
@@ -20,19 +21,21 @@ public interface TextLength<T> extends NullableTextType<T> {
    * @return 保持している文字数を返却します.<code>null</code>を保持している場合は 0 を返却します.
    */
   default int length() {
-    if (this.getNullableValue().isEmpty()) {
+    if (Objects.isNull(this.rawValue())) {
       return 0;
     }
+    return this.graphemeIndex().length();
+  }
 
-    BreakIterator iterator = BreakIterator.getCharacterInstance();
-    iterator.setText(this.getNullableValue().orElse(""));
-
-    int current = iterator.next();
-    int count = 0;
-    while (current != BreakIterator.DONE) {
-      count++;
-      current = iterator.next();
-    }
-    return count;
+  /**
+   * 保持している文字列の書記素クラスタの境界位置を返却します.
+   * <p>
+   * デフォルトは呼び出し毎に境界位置を求めます. 具象クラスで求めた境界位置を保持するように上書きできます.
+   * </p>
+   *
+   * @return 書記素クラスタの境界位置.<code>null</code>を保持している場合は空文字の境界位置
+   */
+  default GraphemeIndex graphemeIndex() {
+    return GraphemeIndex.of(Objects.requireNonNullElse(this.rawValue(), ""));
   }
 }
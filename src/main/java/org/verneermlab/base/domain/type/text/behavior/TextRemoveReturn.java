@@ -1,5 +1,9 @@
 package org.verneermlab.base.domain.type.text.behavior;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import org.verneermlab.base.domain.type.text.NullableTextType;
 import org.verneermlab.base.internal.domain.type.InstanceCreator;
 
@@ -13,15 +17,67 @@ public interface TextRemoveReturn<T> extends NullableTextType<T>, InstanceCreato
 
   /**
    * キャリッジリターンを除去したインスタンスを返却します.
+   * <p>
+   * 改行（{@code \r\n}、{@code \n}）を除去します. 単独の{@code \r}は除去しません.
+   * </p>
    *
-   * @return キャリッジリターンを除去した文字インスタンス
+   * @return キャリッジリターンを除去した文字インスタンス. 除去する改行がない場合は自インスタンス
    */
+  @SuppressWarnings("unchecked")
   default T removeReturn() {
-    if (this.getNullableValue().isEmpty()) {
+    var value = this.rawValue();
+    if (Objects.isNull(value)) {
       return this.newInstanceFromThis();
     }
+    int first = value.indexOf('\n');
+    if (first < 0) {
+      return (T) this;
+    }
+    return this.newInstanceFromThis(appendWithoutReturn(value, first, new StringBuilder(value.length())));
+  }
 
-    var replaced = this.getNullableValue().orElse("").replaceAll("\\r\\n|\\n", "");
-    return this.newInstanceFromThis(replaced);
+  /**
+   * 全ての要素からキャリッジリターンを除去したリストを返却します.
+   * <p>
+   * 編集用のバッファを要素間で共有し、除去する改行がない要素は同じインスタンスのまま返却します.
+   * </p>
+   *
+   * @param <T> 本インターフェースを実装した具象クラスの型
+   * @param texts 文字インスタンスのリスト
+   * @return キャリッジリターンを除去した文字インスタンスのリスト（引数と同じ順序）
+   */
+  @SuppressWarnings("unchecked")
+  static <T extends TextRemoveReturn<T>> List<T> removeReturnAll(Collection<? extends T> texts) {
+    var result = new ArrayList<T>(texts.size());
+    var buffer = new StringBuilder();
+    for (T text : texts) {
+      var value = text.rawValue();
+      int first = Objects.isNull(value) ? -1 : value.indexOf('\n');
+      if (first < 0) {
+        result.add(Objects.isNull(value) ? text.newInstanceFromThis() : text);
+        continue;
+      }
+      buffer.setLength(0);
+      result.add(text.newInstanceFromThis(appendWithoutReturn(value, first, buffer)));
+    }
+    return result;
+  }
+
+  private static String appendWithoutReturn(String value, int first, StringBuilder buffer) {
+    // 最初の改行より前は改行を含まないため、まとめて追記します.
+    int copyEnd = first > 0 && value.charAt(first - 1) == '\r' ? first - 1 : first;
+    buffer.append(value, 0, copyEnd);
+    for (int i = first + 1; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '\n') {
+        continue;
+      }
+      if (c == '\r' && i + 1 < value.length() && value.charAt(i + 1) == '\n') {
+        i++;
+        continue;
+      }
+      buffer.append(c);
+    }
+    return buffer.toString();
   }
 }
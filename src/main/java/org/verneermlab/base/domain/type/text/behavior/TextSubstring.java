@@ -1,7 +1,6 @@
 package org.verneermlab.base.domain.type.text.behavior;
 
-import java.text.BreakIterator;
-import java.util.ArrayList;
+import java.util.Objects;
 import org.verneermlab.base.domain.type.text.NullableTextType;
 
 /**
@@ -34,7 +33,8 @@ public interface TextSubstring<T extends NullableTextType<T>> extends TextJoin<T
       return this.newInstanceFromThis();
     }
 
-    int length = this.length();
+    var graphemeIndex = this.graphemeIndex();
+    int length = graphemeIndex.length();
     int endIndexPos = length < endIndex ? length : endIndex;
 
     if (endIndexPos < beginIndex) {
@@ -42,21 +42,11 @@ public interface TextSubstring<T extends NullableTextType<T>> extends TextJoin<T
     }
 
     if (beginIndex == 0 && length <= endIndex) {
-      return this.newInstanceFromThis(this.getNullableValue().get());
+      return this.newInstanceFromThis(this.rawValue());
     }
 
-    BreakIterator iterator = BreakIterator.getCharacterInstance();
-    iterator.setText(this.getNullableValue().orElse(""));
-
-    var strArray = new ArrayList<String>();
-    for (int start = iterator.first(), end = iterator.next();
-            end != BreakIterator.DONE; start = end, end = iterator.next()) {
-      String str = this.getNullableValue().orElse("").substring(start, end);
-      strArray.add(str);
-    }
-
-    var subList = strArray.subList(beginIndex, endIndexPos);
-    var subStr = String.join("", subList);
+    var value = Objects.requireNonNullElse(this.rawValue(), "");
+    var subStr = value.substring(graphemeIndex.offset(beginIndex), graphemeIndex.offset(endIndexPos));
     return this.newInstanceFromThis(subStr);
   }
 
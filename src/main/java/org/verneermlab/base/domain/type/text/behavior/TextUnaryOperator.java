@@ -19,7 +19,7 @@ public interface TextUnaryOperator<T> extends NullableTextType<T>, InstanceCreat
    * @return 編集後の新しいインスタンス.
    */
   default T apply(UnaryOperator<String> callback) {
-    String updated = callback.apply(this.getNullableValue().orElse(null));
+    String updated = callback.apply(this.rawValue());
     return newInstanceFromThis(updated);
   }
 }
@@ -1,5 +1,10 @@
 package org.verneermlab.base.domain.type.text.behavior;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import org.verneermlab.base.domain.type.text.NullableTextType;
 import org.verneermlab.base.internal.domain.type.InstanceCreator;
 
@@ -15,14 +20,45 @@ public interface TextZeroPadding<T> extends NullableTextType<T>, InstanceCreator
    * 前ゼロ埋めをした文字列を返却します.
    * <p>
    * 値を保持していない場合もゼロ埋めして桁を保証します.
+   * 文字列の空白はゼロに置き換えません.
    * </p>
    *
    * @param length ゼロ埋めを含めた文字列桁数
-   * @return 文字列を前ゼロ埋めした文字インスタンス
+   * @return 文字列を前ゼロ埋めした文字インスタンス. 値を保持していて桁数を満たしている場合は自インスタンス
    */
+  @SuppressWarnings("unchecked")
   default T zeroPadding(Integer length) {
-    var format = "%" + length + "s";
-    var replaced = String.format(format, this.getNullableValue().orElse("")).replace(" ", "0");
-    return this.newInstanceFromThis(replaced);
+    var value = this.rawValue();
+    if (Objects.nonNull(value) && value.length() >= length) {
+      return (T) this;
+    }
+    return this.newInstanceFromThis(padZero(Objects.requireNonNullElse(value, ""), length));
+  }
+
+  /**
+   * 全ての要素を前ゼロ埋めしたリストを返却します.
+   *
+   * @param <T> 本インターフェースを実装した具象クラスの型
+   * @param texts 文字インスタンスのリスト
+   * @param length ゼロ埋めを含めた文字列桁数
+   * @return 文字列を前ゼロ埋めした文字インスタンスのリスト（引数と同じ順序）
+   */
+  static <T extends TextZeroPadding<T>> List<T> zeroPaddingAll(Collection<? extends T> texts, int length) {
+    var result = new ArrayList<T>(texts.size());
+    for (T text : texts) {
+      result.add(text.zeroPadding(length));
+    }
+    return result;
+  }
+
+  private static String padZero(String value, int length) {
+    int padding = length - value.length();
+    if (padding <= 0) {
+      return value;
+    }
+    var chars = new char[length];
+    Arrays.fill(chars, 0, padding, '0');
+    value.getChars(0, value.length(), chars, padding);
+    return new String(chars);
   }
 }
@@ -0,0 +1,158 @@
+package org.verneermlab.base.domain.type.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 日付と日時に適用するタイムゾーン.
+ * <p>
+ * タイムゾーンのルールは生成時に一度だけ解決し、インスタンスはタイムゾーンIDごとに共有します.
+ * 最後の切り替え（夏時間の廃止など）以降のオフセットが固定のタイムゾーンは、切り替え以降の日時を{@link java.time.ZonedDateTime}を生成せずにオフセットの加減算で変換します.
+ * </p>
+ * 日付と日時の型が使用するタイムゾーンは{@link #getDefault()}で、{@link #setDefault(ZoneId)}でアプリケーション全体の既定値を変更できます.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class DateTimeZone {
+
+  private static final DateTimeZone ASIA_TOKYO = new DateTimeZone(ZoneId.of("Asia/Tokyo"));
+
+  private static final ConcurrentMap<ZoneId, DateTimeZone> zones = new ConcurrentHashMap<>();
+
+  private static volatile DateTimeZone defaultZone = ASIA_TOKYO;
+
+  private final ZoneId zoneId;
+
+  /**
+   * 固定となったオフセット. 将来も切り替えがあるタイムゾーンの場合はnull.
+   */
+  private final ZoneOffset fixedOffset;
+
+  /**
+   * オフセットが固定となる日時（この日時を含みません）. 常に固定の場合はnull.
+   */
+  private final LocalDateTime fixedAfter;
+
+  private DateTimeZone(ZoneId zoneId) {
+    this.zoneId = zoneId;
+    var rules = zoneId.getRules();
+    if (rules.isFixedOffset()) {
+      this.fixedOffset = rules.getOffset(Instant.EPOCH);
+      this.fixedAfter = null;
+      return;
+    }
+    if (!rules.getTransitionRules().isEmpty() || rules.getTransitions().isEmpty()) {
+      this.fixedOffset = null;
+      this.fixedAfter = null;
+      return;
+    }
+    var transitions = rules.getTransitions();
+    var last = transitions.get(transitions.size() - 1);
+    this.fixedOffset = last.getOffsetAfter();
+    // 切り替え前後のいずれの現地日時でも重複または欠落が起こらない位置からを固定とします.
+    var before = last.getDateTimeBefore();
+    var after = last.getDateTimeAfter();
+    this.fixedAfter = before.isAfter(after) ? before : after;
+  }
+
+  /**
+   * インスタンスを返却します.
+   *
+   * @param zoneId タイムゾーンID
+   * @return インスタンス
+   */
+  public static DateTimeZone of(ZoneId zoneId) {
+    Objects.requireNonNull(zoneId);
+    var current = defaultZone;
+    if (current.zoneId.equals(zoneId)) {
+      return current;
+    }
+    if (ASIA_TOKYO.zoneId.equals(zoneId)) {
+      return ASIA_TOKYO;
+    }
+    return zones.computeIfAbsent(zoneId, DateTimeZone::new);
+  }
+
+  /**
+   * 既定のタイムゾーンを返却します.
+   *
+   * @return 既定のタイムゾーン. 変更していない場合はAsia/Tokyo
+   */
+  public static DateTimeZone getDefault() {
+    return defaultZone;
+  }
+
+  /**
+   * 既定のタイムゾーンを変更します.
+   * <p>
+   * アプリケーションの起動時に呼び出すことを想定しています.
+   * </p>
+   *
+   * @param zoneId タイムゾーンID
+   */
+  public static void setDefault(ZoneId zoneId) {
+    defaultZone = of(zoneId);
+  }
+
+  /**
+   * タイムゾーンIDを返却します.
+   *
+   * @return タイムゾーンID
+   */
+  public ZoneId getZoneId() {
+    return this.zoneId;
+  }
+
+  /**
+   * 現地日時をUnixTimeへ変換します.
+   * <p>
+   * {@code ZonedDateTime.of(dateTime, zoneId).toEpochSecond()}と同じ値を返却します.
+   * </p>
+   *
+   * @param dateTime 現地日時
+   * @return UnixTime
+   */
+  public long toEpochSecond(LocalDateTime dateTime) {
+    return dateTime.toEpochSecond(this.getOffset(dateTime));
+  }
+
+  /**
+   * 現地の日付の開始日時を返却します.
+   * <p>
+   * {@code date.atStartOfDay(zoneId).toLocalDateTime()}と同じ値を返却します.
+   * </p>
+   *
+   * @param date 日付
+   * @return 開始日時
+   */
+  public LocalDateTime atStartOfDay(LocalDate date) {
+    var startOfDay = date.atStartOfDay();
+    if (this.isFixed(startOfDay)) {
+      return startOfDay;
+    }
+    return date.atStartOfDay(this.zoneId).toLocalDateTime();
+  }
+
+  private ZoneOffset getOffset(LocalDateTime dateTime) {
+    if (this.isFixed(dateTime)) {
+      return this.fixedOffset;
+    }
+    // 欠落と重複のいずれも切り替え前のオフセットとなり、ZonedDateTimeと同じUnixTimeとなります.
+    return this.zoneId.getRules().getOffset(dateTime);
+  }
+
+  private boolean isFixed(LocalDateTime dateTime) {
+    return this.fixedOffset != null && (this.fixedAfter == null || dateTime.isAfter(this.fixedAfter));
+  }
+
+  @Override
+  public String toString() {
+    return this.zoneId.toString();
+  }
+}
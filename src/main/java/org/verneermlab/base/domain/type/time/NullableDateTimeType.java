@@ -3,9 +3,8 @@ package org.verneermlab.base.domain.type.time;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.TimeZone;
 import org.verneermlab.base.domain.type.SinglePropertyObjectType;
 
 /**
@@ -25,16 +24,19 @@ public interface NullableDateTimeType<T> extends SinglePropertyObjectType<LocalD
    * @return nullの場合はtrue
    */
   default boolean isEmpty() {
-    return this.getNullableValue().isEmpty();
+    return Objects.isNull(this.rawValue());
   }
 
   /**
    * 保持する日時に適用するタイムゾーンIDを返却します.
+   * <p>
+   * 既定は{@link DateTimeZone#getDefault()}のタイムゾーンです. 具象クラスで上書きできます.
+   * </p>
    *
    * @return タイムゾーンID
    */
   default ZoneId getZoneId() {
-    return TimeZone.getTimeZone("Asia/Tokyo").toZoneId();
+    return DateTimeZone.getDefault().getZoneId();
   }
 
   /**
@@ -43,11 +45,11 @@ public interface NullableDateTimeType<T> extends SinglePropertyObjectType<LocalD
    * @return LocalDate
    */
   default Optional<LocalDate> toLocalDate() {
-    if (this.getNullableValue().isEmpty()) {
+    if (Objects.isNull(this.rawValue())) {
       return Optional.empty();
     }
 
-    var dateTime = this.getNullableValue().get();
+    var dateTime = this.rawValue();
     return Optional.of(LocalDate.of(dateTime.getYear(), dateTime.getMonth(), dateTime.getDayOfMonth()));
   }
 
@@ -60,8 +62,7 @@ public interface NullableDateTimeType<T> extends SinglePropertyObjectType<LocalD
     if (this.isEmpty()) {
       return Optional.empty();
     }
-    var zonedDateTime = ZonedDateTime.of(this.getNullableValue().get(), this.getZoneId());
-    return Optional.of(zonedDateTime.toEpochSecond());
+    return Optional.of(DateTimeZone.of(this.getZoneId()).toEpochSecond(this.rawValue()));
   }
 
 }
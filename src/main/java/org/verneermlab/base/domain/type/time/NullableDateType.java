@@ -3,10 +3,10 @@ package org.verneermlab.base.domain.type.time;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Date;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
 import org.verneermlab.base.domain.type.SinglePropertyObjectType;
 
 /**
@@ -26,16 +26,19 @@ public interface NullableDateType<T> extends SinglePropertyObjectType<LocalDate>
    * @return nullの場合はtrue
    */
   default boolean isEmpty() {
-    return this.getNullableValue().isEmpty();
+    return Objects.isNull(this.rawValue());
   }
 
   /**
    * 保持する日時に適用するタイムゾーンIDを返却します.
+   * <p>
+   * 既定は{@link DateTimeZone#getDefault()}のタイムゾーンです. 具象クラスで上書きできます.
+   * </p>
    *
    * @return タイムゾーンID
    */
   default ZoneId getZoneId() {
-    return TimeZone.getTimeZone("Asia/Tokyo").toZoneId();
+    return DateTimeZone.getDefault().getZoneId();
   }
 
   /**
@@ -47,8 +50,9 @@ public interface NullableDateType<T> extends SinglePropertyObjectType<LocalDate>
     if (this.isEmpty()) {
       return Optional.empty();
     }
-    return Optional.of(Date.from(
-            this.getNullableValue().get().atStartOfDay(this.getZoneId()).toInstant()));
+    var zone = DateTimeZone.of(this.getZoneId());
+    var epochSecond = zone.toEpochSecond(zone.atStartOfDay(this.rawValue()));
+    return Optional.of(new Date(TimeUnit.SECONDS.toMillis(epochSecond)));
   }
 
   /**
@@ -60,7 +64,7 @@ public interface NullableDateType<T> extends SinglePropertyObjectType<LocalDate>
     if (this.isEmpty()) {
       return Optional.empty();
     }
-    return Optional.of(this.getNullableValue().get().atStartOfDay(this.getZoneId()).toLocalDateTime());
+    return Optional.of(DateTimeZone.of(this.getZoneId()).atStartOfDay(this.rawValue()));
   }
 
   /**
@@ -72,7 +76,6 @@ public interface NullableDateType<T> extends SinglePropertyObjectType<LocalDate>
     if (this.isEmpty()) {
       return Optional.empty();
     }
-    var zonedDateTime = ZonedDateTime.of(this.getNullableValue().get().atStartOfDay(), this.getZoneId());
-    return Optional.of(zonedDateTime.toEpochSecond());
+    return Optional.of(DateTimeZone.of(this.getZoneId()).toEpochSecond(this.rawValue().atStartOfDay()));
   }
 }
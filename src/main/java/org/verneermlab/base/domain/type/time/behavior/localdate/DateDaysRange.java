@@ -1,8 +1,8 @@
 package org.verneermlab.base.domain.type.time.behavior.localdate;
 
-import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import org.verneermlab.base.domain.type.time.NullableDateType;
 
@@ -27,8 +27,7 @@ public interface DateDaysRange<T extends NullableDateType<T>> extends NullableDa
     if (this.isEmpty() || after.isEmpty()) {
       return 0L;
     }
-    Long count = ChronoUnit.DAYS.between(this.getNullableValue().get(), after.getNullableValue().get());
-    return count;
+    return this.rangeDaysAsLong(after);
   }
 
   /**
@@ -43,7 +42,7 @@ public interface DateDaysRange<T extends NullableDateType<T>> extends NullableDa
     if (this.isEmpty() || after.isEmpty()) {
       return Optional.empty();
     }
-    Long count = ChronoUnit.DAYS.between(this.getNullableValue().get(), after.getNullableValue().get());
+    Long count = this.rangeDaysAsLong(after);
     return Optional.ofNullable(function.apply(count));
   }
 
@@ -60,7 +59,60 @@ public interface DateDaysRange<T extends NullableDateType<T>> extends NullableDa
     if (this.isEmpty() || after.isEmpty()) {
       return defaultSupplier.get();
     }
-    Long count = ChronoUnit.DAYS.between(this.getNullableValue().get(), after.getNullableValue().get());
+    Long count = this.rangeDaysAsLong(after);
     return function.apply(count);
   }
+
+  /**
+   * 指定日との日数の差異を返却します.
+   * <p>
+   * {@code rangeDays(after)}と同じ値を、ボクシングせずに返却します.
+   * </p>
+   *
+   * @param after 指定日
+   * @return 期間日数. thisまたはafterのプロパティ値がnullの場合は0
+   */
+  default long rangeDaysAsLong(T after) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return 0L;
+    }
+    return after.rawValue().toEpochDay() - this.rawValue().toEpochDay();
+  }
+
+  /**
+   * 指定日との日数の差異を返却します.
+   * <p>
+   * 日数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 日数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param function 日数を扱うドメインオブジェクトを生成する関数
+   * @return 期間日数を扱うドメインオブジェクト. thisまたはafterのプロパティ値がnullの場合はOptional.empty()
+   */
+  default <R> Optional<R> rangeDaysAsLong(T after, LongFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(function.apply(this.rangeDaysAsLong(after)));
+  }
+
+  /**
+   * 指定日との日数の差異を返却します.
+   * <p>
+   * 日数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 日数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param defaultSupplier thisまたはafterのプロパティ値がnullの場合のデフォルトの日数のドメインオブジェクトを生成する関数
+   * @param function 日数を扱うドメインオブジェクトを生成する関数
+   * @return 日数を扱うドメインオブジェクト
+   */
+  default <R> R rangeDaysAsLong(T after, Supplier<R> defaultSupplier, LongFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return defaultSupplier.get();
+    }
+    return function.apply(this.rangeDaysAsLong(after));
+  }
 }
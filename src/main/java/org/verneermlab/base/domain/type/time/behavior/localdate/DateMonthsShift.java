@@ -21,7 +21,7 @@ public interface DateMonthsShift<T extends NullableDateType<T>> extends Nullable
     if (this.isEmpty()) {
       return newInstanceFromThis();
     }
-    LocalDate updated = this.getNullableValue().get().withDayOfMonth(1);
+    LocalDate updated = this.rawValue().withDayOfMonth(1);
     return newInstanceFromThis(updated);
   }
 
@@ -34,8 +34,8 @@ public interface DateMonthsShift<T extends NullableDateType<T>> extends Nullable
     if (this.isEmpty()) {
       return newInstanceFromThis();
     }
-    var date = this.getNullableValue().get();
-    var updated = this.getNullableValue().get().withDayOfMonth(date.lengthOfMonth());
+    var date = this.rawValue();
+    var updated = this.rawValue().withDayOfMonth(date.lengthOfMonth());
     return newInstanceFromThis(updated);
   }
 
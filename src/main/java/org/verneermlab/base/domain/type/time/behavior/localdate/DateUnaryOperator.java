@@ -20,7 +20,7 @@ public interface DateUnaryOperator<T> extends NullableDateType<T>, InstanceCreat
    * @return 編集後の新しいインスタンス.
    */
   default T apply(UnaryOperator<LocalDate> callback) {
-    LocalDate updated = callback.apply(this.getNullableValue().orElse(null));
+    LocalDate updated = callback.apply(this.rawValue());
     return newInstanceFromThis(updated);
   }
 }
@@ -1,5 +1,6 @@
 package org.verneermlab.base.domain.type.time.behavior.localdatetime;
 
+import java.util.Objects;
 import org.verneermlab.base.domain.type.time.NullableDateTimeType;
 
 /**
@@ -20,15 +21,15 @@ public interface DateTimeComparator<T extends NullableDateTimeType<T>> extends N
    * @return {@code this = other} を満たす場合 true
    */
   default boolean eq(T other) {
-    if (this.getNullableValue().isEmpty() && other.getNullableValue().isEmpty()) {
+    if (Objects.isNull(this.rawValue()) && Objects.isNull(other.rawValue())) {
       return true;
     }
 
-    if (this.getNullableValue().isEmpty() || other.getNullableValue().isEmpty()) {
+    if (Objects.isNull(this.rawValue()) || Objects.isNull(other.rawValue())) {
       return false;
     }
 
-    return this.getNullableValue().get().isEqual(other.getNullableValue().get());
+    return this.rawValue().isEqual(other.rawValue());
   }
 
   /**
@@ -66,7 +67,7 @@ public interface DateTimeComparator<T extends NullableDateTimeType<T>> extends N
       return true;
     }
 
-    return this.getNullableValue().get().isBefore(other.getNullableValue().get());
+    return this.rawValue().isBefore(other.rawValue());
   }
 
   /**
@@ -104,7 +105,7 @@ public interface DateTimeComparator<T extends NullableDateTimeType<T>> extends N
       return false;
     }
 
-    return this.getNullableValue().get().isAfter(other.getNullableValue().get());
+    return this.rawValue().isAfter(other.rawValue());
   }
 
   /**
@@ -3,6 +3,7 @@ package org.verneermlab.base.domain.type.time.behavior.localdatetime;
 import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import org.verneermlab.base.domain.type.time.NullableDateTimeType;
 
@@ -27,10 +28,7 @@ public interface DateTimeDaysRange<T extends NullableDateTimeType<T>> extends Nu
     if (this.isEmpty() || after.isEmpty()) {
       return 0L;
     }
-    Long count = ChronoUnit.DAYS.between(
-            this.getNullableValue().get().toLocalDate(),
-            after.getNullableValue().get().toLocalDate());
-    return count;
+    return this.rangeDaysAsLong(after);
   }
 
   /**
@@ -45,9 +43,7 @@ public interface DateTimeDaysRange<T extends NullableDateTimeType<T>> extends Nu
     if (this.isEmpty() || after.isEmpty()) {
       return Optional.empty();
     }
-    Long count = ChronoUnit.DAYS.between(
-            this.getNullableValue().get().toLocalDate(),
-            after.getNullableValue().get().toLocalDate());
+    Long count = this.rangeDaysAsLong(after);
     return Optional.ofNullable(function.apply(count));
   }
 
@@ -64,9 +60,60 @@ public interface DateTimeDaysRange<T extends NullableDateTimeType<T>> extends Nu
     if (this.isEmpty() || after.isEmpty()) {
       return defaultSupplier.get();
     }
-    Long count = ChronoUnit.DAYS.between(
-            this.getNullableValue().get().toLocalDate(),
-            after.getNullableValue().get().toLocalDate());
+    Long count = this.rangeDaysAsLong(after);
     return function.apply(count);
   }
+
+  /**
+   * 指定日との日数の差異を返却します.
+   * <p>
+   * {@code rangeDays(after)}と同じ値を、ボクシングせずに返却します.
+   * </p>
+   *
+   * @param after 指定日
+   * @return 期間日数. thisまたはafterのプロパティ値がnullの場合は0
+   */
+  default long rangeDaysAsLong(T after) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return 0L;
+    }
+    return ChronoUnit.DAYS.between(this.rawValue().toLocalDate(), after.rawValue().toLocalDate());
+  }
+
+  /**
+   * 指定日との日数の差異を返却します.
+   * <p>
+   * 日数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 日数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param function 日数を扱うドメインオブジェクトを生成する関数
+   * @return 期間日数を扱うドメインオブジェクト. thisまたはafterのプロパティ値がnullの場合はOptional.empty()
+   */
+  default <R> Optional<R> rangeDaysAsLong(T after, LongFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(function.apply(this.rangeDaysAsLong(after)));
+  }
+
+  /**
+   * 指定日との日数の差異を返却します.
+   * <p>
+   * 日数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 日数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param defaultSupplier thisまたはafterのプロパティ値がnullの場合のデフォルトの日数のドメインオブジェクトを生成する関数
+   * @param function 日数を扱うドメインオブジェクトを生成する関数
+   * @return 日数を扱うドメインオブジェクト
+   */
+  default <R> R rangeDaysAsLong(T after, Supplier<R> defaultSupplier, LongFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return defaultSupplier.get();
+    }
+    return function.apply(this.rangeDaysAsLong(after));
+  }
 }
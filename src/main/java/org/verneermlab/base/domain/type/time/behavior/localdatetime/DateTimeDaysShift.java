@@ -21,7 +21,7 @@ public interface DateTimeDaysShift<T extends NullableDateTimeType<T>> extends Nu
     if (this.isEmpty()) {
       return newInstanceFromThis();
     }
-    LocalDateTime updated = this.getNullableValue().get().toLocalDate().atStartOfDay();
+    LocalDateTime updated = this.rawValue().toLocalDate().atStartOfDay();
     return newInstanceFromThis(updated);
   }
 
@@ -34,7 +34,7 @@ public interface DateTimeDaysShift<T extends NullableDateTimeType<T>> extends Nu
     if (this.isEmpty()) {
       return newInstanceFromThis();
     }
-    var updated = this.getNullableValue().get().toLocalDate().plusDays(1).atStartOfDay().minusNanos(1);
+    var updated = this.rawValue().toLocalDate().plusDays(1).atStartOfDay().minusNanos(1);
     return newInstanceFromThis(updated);
   }
 
@@ -1,12 +1,12 @@
 package org.verneermlab.base.domain.type.time.behavior.localdatetime;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.Period;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.LongFunction;
 import java.util.function.Supplier;
 import org.verneermlab.base.domain.type.time.NullableDateTimeType;
+import org.verneermlab.base.utils.time.MonthsBetween;
 
 /**
  * 期間月数.
@@ -29,9 +29,7 @@ public interface DateTimeMonthsRange<T extends NullableDateTimeType<T>> extends
     if (this.isEmpty() || after.isEmpty()) {
       return 0L;
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    Long count = period.toTotalMonths();
-    return count;
+    return this.rangeMonthsAsLong(after);
   }
 
   /**
@@ -46,8 +44,7 @@ public interface DateTimeMonthsRange<T extends NullableDateTimeType<T>> extends
     if (this.isEmpty() || after.isEmpty()) {
       return Optional.empty();
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    Long count = period.toTotalMonths();
+    Long count = this.rangeMonthsAsLong(after);
     return Optional.ofNullable(function.apply(count));
   }
 
@@ -64,8 +61,7 @@ public interface DateTimeMonthsRange<T extends NullableDateTimeType<T>> extends
     if (this.isEmpty() || after.isEmpty()) {
       return defaultSupplier.get();
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    Long count = period.toTotalMonths();
+    Long count = this.rangeMonthsAsLong(after);
     return function.apply(count);
   }
 
@@ -79,16 +75,7 @@ public interface DateTimeMonthsRange<T extends NullableDateTimeType<T>> extends
     if (this.isEmpty() || after.isEmpty()) {
       return BigDecimal.ZERO;
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    var monthCount = period.toTotalMonths();
-    var dayCount = period.minusMonths(monthCount).getDays();
-
-    var halfUpDay = new BigDecimal(dayCount)
-            .divide(new BigDecimal(30), 2, RoundingMode.HALF_UP)
-            .multiply(new BigDecimal(2)).setScale(0, RoundingMode.HALF_UP)
-            .divide(new BigDecimal(2));
-
-    return new BigDecimal(monthCount).add(halfUpDay);
+    return MonthsBetween.halfUp(this.rawValue().toLocalDate(), after.rawValue().toLocalDate());
   }
 
   /**
@@ -124,4 +111,56 @@ public interface DateTimeMonthsRange<T extends NullableDateTimeType<T>> extends
     return function.apply(count);
   }
 
+  /**
+   * 指定日との月数の差異を返却します.
+   * <p>
+   * {@code rangeMonths(after)}と同じ値を、ボクシングせずに返却します.
+   * </p>
+   *
+   * @param after 指定日
+   * @return 期間月数. thisまたはafterのプロパティ値がnullの場合は0
+   */
+  default long rangeMonthsAsLong(T after) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return 0L;
+    }
+    return MonthsBetween.totalMonths(this.rawValue().toLocalDate(), after.rawValue().toLocalDate());
+  }
+
+  /**
+   * 指定日との月数の差異を返却します.
+   * <p>
+   * 月数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 月数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param function 月数を扱うドメインオブジェクトを生成する関数
+   * @return 期間月数を扱うドメインオブジェクト. thisまたはafterのプロパティ値がnullの場合はOptional.empty()
+   */
+  default <R> Optional<R> rangeMonthsAsLong(T after, LongFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(function.apply(this.rangeMonthsAsLong(after)));
+  }
+
+  /**
+   * 指定日との月数の差異を返却します.
+   * <p>
+   * 月数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 月数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param defaultSupplier thisまたはafterのプロパティ値がnullの場合のデフォルトの月数のドメインオブジェクトを生成する関数
+   * @param function 月数を扱うドメインオブジェクトを生成する関数
+   * @return 月数を扱うドメインオブジェクト
+   */
+  default <R> R rangeMonthsAsLong(T after, Supplier<R> defaultSupplier, LongFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return defaultSupplier.get();
+    }
+    return function.apply(this.rangeMonthsAsLong(after));
+  }
 }
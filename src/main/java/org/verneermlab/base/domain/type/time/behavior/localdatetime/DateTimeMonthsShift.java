@@ -21,7 +21,7 @@ public interface DateTimeMonthsShift<T extends NullableDateTimeType<T>> extends
     if (this.isEmpty()) {
       return newInstanceFromThis();
     }
-    LocalDateTime updated = this.getNullableValue().get().toLocalDate().atStartOfDay().withDayOfMonth(1);
+    LocalDateTime updated = this.rawValue().toLocalDate().atStartOfDay().withDayOfMonth(1);
     return newInstanceFromThis(updated);
   }
 
@@ -34,7 +34,7 @@ public interface DateTimeMonthsShift<T extends NullableDateTimeType<T>> extends
     if (this.isEmpty()) {
       return newInstanceFromThis();
     }
-    var date = this.getNullableValue().get().toLocalDate().plusMonths(1L)
+    var date = this.rawValue().toLocalDate().plusMonths(1L)
             .atStartOfDay().withDayOfMonth(1).minusNanos(1L);
     return newInstanceFromThis(date);
   }
@@ -20,7 +20,7 @@ public interface DateTimeUnaryOperator<T> extends NullableDateTimeType<T>, Insta
    * @return 編集後の新しいインスタンス.
    */
   default T apply(UnaryOperator<LocalDateTime> callback) {
-    LocalDateTime updated = callback.apply(this.getNullableValue().orElse(null));
+    LocalDateTime updated = callback.apply(this.rawValue());
     return newInstanceFromThis(updated);
   }
 }
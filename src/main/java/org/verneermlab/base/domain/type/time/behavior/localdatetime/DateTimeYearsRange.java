@@ -1,10 +1,11 @@
 package org.verneermlab.base.domain.type.time.behavior.localdatetime;
 
-import java.time.Period;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.verneermlab.base.domain.type.time.NullableDateTimeType;
+import org.verneermlab.base.utils.time.MonthsBetween;
 
 /**
  * 期間年数.
@@ -27,9 +28,7 @@ public interface DateTimeYearsRange<T extends NullableDateTimeType<T>> extends N
     if (this.isEmpty() || after.isEmpty()) {
       return 0;
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    int count = period.getYears();
-    return count;
+    return this.rangeYearsAsInt(after);
   }
 
   /**
@@ -44,8 +43,7 @@ public interface DateTimeYearsRange<T extends NullableDateTimeType<T>> extends N
     if (this.isEmpty() || after.isEmpty()) {
       return Optional.empty();
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    int count = period.getYears();
+    int count = this.rangeYearsAsInt(after);
     return Optional.ofNullable(function.apply(count));
   }
 
@@ -62,8 +60,60 @@ public interface DateTimeYearsRange<T extends NullableDateTimeType<T>> extends N
     if (this.isEmpty() || after.isEmpty()) {
       return defaultSupplier.get();
     }
-    var period = Period.between(this.getNullableValue().get().toLocalDate(), after.getNullableValue().get().toLocalDate());
-    int count = period.getYears();
+    int count = this.rangeYearsAsInt(after);
     return function.apply(count);
   }
+
+  /**
+   * 指定日との年数の差異を返却します.
+   * <p>
+   * {@code rangeYears(after)}と同じ値を返却します.
+   * </p>
+   *
+   * @param after 指定日
+   * @return 期間年数. thisまたはafterのプロパティ値がnullの場合は0
+   */
+  default int rangeYearsAsInt(T after) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return 0;
+    }
+    return (int) (MonthsBetween.totalMonths(this.rawValue().toLocalDate(), after.rawValue().toLocalDate()) / 12);
+  }
+
+  /**
+   * 指定日との年数の差異を返却します.
+   * <p>
+   * 年数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 年数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param function 年数を扱うドメインオブジェクトを生成する関数
+   * @return 期間年数を扱うドメインオブジェクト. thisまたはafterのプロパティ値がnullの場合はOptional.empty()
+   */
+  default <R> Optional<R> rangeYearsAsInt(T after, IntFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(function.apply(this.rangeYearsAsInt(after)));
+  }
+
+  /**
+   * 指定日との年数の差異を返却します.
+   * <p>
+   * 年数をボクシングせずに関数へ渡します.
+   * </p>
+   *
+   * @param <R> 年数を扱うドメインオブジェクトの型
+   * @param after 指定日
+   * @param defaultSupplier thisまたはafterのプロパティ値がnullの場合のデフォルトの年数のドメインオブジェクトを生成する関数
+   * @param function 年数を扱うドメインオブジェクトを生成する関数
+   * @return 年数を扱うドメインオブジェクト
+   */
+  default <R> R rangeYearsAsInt(T after, Supplier<R> defaultSupplier, IntFunction<R> function) {
+    if (this.isEmpty() || after.isEmpty()) {
+      return defaultSupplier.get();
+    }
+    return function.apply(this.rangeYearsAsInt(after));
+  }
 }
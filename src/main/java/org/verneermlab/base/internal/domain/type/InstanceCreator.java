@@ -1,15 +1,46 @@
 package org.verneermlab.base.internal.domain.type;
 
-import java.lang.reflect.Constructor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 自インスタンスのコンストラクタを生成するインターフェース.
+ * <p>
+ * コンストラクタはクラス毎に一度だけ解決してキャッシュします.
+ * </p>
+ * <p>
+ * 具象クラスのstatic初期化子で{@link #register(Class, Class, Supplier, Function)}により生成関数を登録すると、
+ * リフレクションを使用せずにインスタンスを生成します（GraalVMのnative-imageでリフレクション設定が不要になります）.
+ * </p>
  *
  * @author Yamashita.Takahiro
  * @param <T> 生成対象となるクラスの型
  */
 public interface InstanceCreator<T> {
 
+  /**
+   * インスタンスを生成する関数を登録します.
+   * <p>
+   * 具象クラスのstatic初期化子から呼び出してください. 生成関数はクラス毎に一度だけ登録できます.
+   * </p>
+   * 記述例.<br>
+   * {@code
+   * static { InstanceCreator.register(Price.class, BigDecimal.class, Price::new, Price::new); }
+   * }
+   *
+   * @param <T> 生成対象となるクラスの型
+   * @param <V> コンストラクタの引数の型
+   * @param type 生成対象となるクラス
+   * @param valueType コンストラクタの引数の型
+   * @param emptyFactory 値を保持しないインスタンスを生成する関数（デフォルトコンストラクタ相当）
+   * @param valueFactory 値を保持するインスタンスを生成する関数（引数ありのコンストラクタ相当）
+   * @throws IllegalStateException 生成対象となるクラスの生成関数を登録済みの場合
+   */
+  static <T, V> void register(Class<T> type, Class<V> valueType,
+          Supplier<? extends T> emptyFactory, Function<? super V, ? extends T> valueFactory) {
+    InstanceFactory.of(type).register(valueType, emptyFactory, valueFactory);
+  }
+
   /**
    * 生成対象と同じクラスのデフォルトコンストラクタを使用したインスタンスを生成します.
    * <p>
@@ -20,13 +51,7 @@ public interface InstanceCreator<T> {
    */
   @SuppressWarnings("unchecked")
   default T newInstanceFromThis() {
-    try {
-      Constructor<?> constructor = this.getClass().getDeclaredConstructor();
-      constructor.setAccessible(true);
-      return (T) constructor.newInstance();
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
-    }
+    return (T) InstanceFactory.of(this.getClass()).newInstance();
   }
 
   /**
@@ -40,12 +65,6 @@ public interface InstanceCreator<T> {
    */
   @SuppressWarnings("unchecked")
   default T newInstanceFromThis(Object originalValue) {
-    try {
-      Constructor<?> constructor = this.getClass().getDeclaredConstructor(originalValue.getClass());
-      constructor.setAccessible(true);
-      return (T) constructor.newInstance(originalValue);
-    } catch (ReflectiveOperationException e) {
-      throw new RuntimeException(e);
-    }
+    return (T) InstanceFactory.of(this.getClass()).newInstance(originalValue);
   }
 }
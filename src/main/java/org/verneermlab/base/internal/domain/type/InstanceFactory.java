@@ -0,0 +1,142 @@
+package org.verneermlab.base.internal.domain.type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * クラス毎のコンストラクタを解決済みで保持するファクトリ.
+ * <p>
+ * コンストラクタの探索とアクセス権の付与はクラス（と引数の型）毎に一度だけ行い、以降は{@link MethodHandle}で呼び出します.
+ * </p>
+ * <p>
+ * {@link #register(Class, Supplier, Function)}で生成関数が登録されたクラスはリフレクションを使用せずに生成関数で生成します.
+ * </p>
+ * {@link InstanceCreator}からのみ使用します.
+ *
+ * @author Yamashita.Takahiro
+ */
+final class InstanceFactory {
+
+  private static final ClassValue<InstanceFactory> FACTORIES = new ClassValue<>() {
+    @Override
+    protected InstanceFactory computeValue(Class<?> type) {
+      return new InstanceFactory(type);
+    }
+  };
+
+  private static final MethodType NO_ARG_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType ONE_ARG_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private final Class<?> type;
+  private final ConcurrentMap<Class<?>, MethodHandle> argConstructors = new ConcurrentHashMap<>(2);
+  private volatile MethodHandle noArgConstructor;
+
+  private volatile Supplier<?> emptyFactory;
+  private volatile Class<?> valueType;
+  private volatile Function<Object, ?> valueFactory;
+
+  private InstanceFactory(Class<?> type) {
+    this.type = type;
+  }
+
+  /**
+   * 対象クラスのファクトリを返却します.
+   *
+   * @param type 生成対象のクラス
+   * @return 対象クラスのファクトリ
+   */
+  static InstanceFactory of(Class<?> type) {
+    return FACTORIES.get(type);
+  }
+
+  /**
+   * リフレクションを使用せずにインスタンスを生成する関数を登録します.
+   *
+   * @param <V> コンストラクタの引数の型
+   * @param valueType コンストラクタの引数の型
+   * @param emptyFactory 値を保持しないインスタンスを生成する関数
+   * @param valueFactory 値を保持するインスタンスを生成する関数
+   * @throws IllegalStateException 生成関数を登録済みの場合
+   */
+  @SuppressWarnings("unchecked")
+  synchronized <V> void register(Class<V> valueType, Supplier<?> emptyFactory, Function<? super V, ?> valueFactory) {
+    Objects.requireNonNull(valueType);
+    Objects.requireNonNull(emptyFactory);
+    Objects.requireNonNull(valueFactory);
+    if (this.emptyFactory != null) {
+      throw new IllegalStateException(this.type.getName() + " factory is already registered.");
+    }
+    // 生成関数が対象クラス以外を返却した場合に、呼び出し元ではなく生成時に検知します.
+    var checkedValueFactory = (Function<Object, ?>) valueFactory.andThen(this.type::cast);
+    this.valueType = valueType;
+    this.valueFactory = checkedValueFactory;
+    this.emptyFactory = () -> this.type.cast(emptyFactory.get());
+  }
+
+  /**
+   * デフォルトコンストラクタを使用したインスタンスを生成します.
+   *
+   * @return 生成したインスタンス
+   * @throws RuntimeException コンストラクタが取得できない場合
+   */
+  Object newInstance() {
+    var factory = this.emptyFactory;
+    if (factory != null) {
+      return factory.get();
+    }
+
+    var constructor = this.noArgConstructor;
+    if (constructor == null) {
+      constructor = this.resolve(NO_ARG_TYPE);
+      this.noArgConstructor = constructor;
+    }
+    try {
+      return constructor.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * 引数の型と一致するコンストラクタを使用したインスタンスを生成します.
+   *
+   * @param originalValue コンストラクタの引数
+   * @return 生成したインスタンス
+   * @throws RuntimeException コンストラクタが取得できない場合
+   */
+  Object newInstance(Object originalValue) {
+    var factory = this.valueFactory;
+    if (factory != null && this.valueType.isInstance(originalValue)) {
+      return factory.apply(originalValue);
+    }
+
+    var constructor = this.argConstructors.computeIfAbsent(
+            originalValue.getClass(), argType -> this.resolve(ONE_ARG_TYPE, argType));
+    try {
+      return constructor.invokeExact(originalValue);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  private MethodHandle resolve(MethodType methodType, Class<?>... parameterTypes) {
+    try {
+      Constructor<?> constructor = this.type.getDeclaredConstructor(parameterTypes);
+      constructor.setAccessible(true);
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(methodType);
+    } catch (ReflectiveOperationException e) {
+      throw new RuntimeException(e);
+    }
+  }
+}
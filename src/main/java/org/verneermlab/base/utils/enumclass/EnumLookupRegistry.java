@@ -0,0 +1,177 @@
+package org.verneermlab.base.utils.enumclass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Enumクラスごとに逆引きを共有する登録簿.
+ * <p>
+ * 1つのEnumクラスに対して、属性（コード、名称、旧コードなど）ごとの逆引きを名前を付けて登録します.
+ * 登録簿はEnumクラスごとに1つだけ生成されるため、同じ名前の逆引きはアプリケーション全体で同じ索引を使用します.
+ * </p>
+ * 記述例.<br>
+ * Enumクラス側
+ * <p>
+ * {@code
+ * static final EnumReverseLookup<TestEnum, String> byCd = EnumLookupRegistry.of(TestEnum.class).register("cd", TestEnum::getCd);
+ * }
+ * </p>
+ * Enumクラスを逆引きする側
+ * <p>
+ * {@code
+ * Optional<TestEnum> enumCls = EnumLookupRegistry.of(TestEnum.class).lookup("cd", "1");
+ * }
+ * </p>
+ *
+ * @author Yamashita.Takahiro
+ * @param <E> 逆引き対象のEnumクラス
+ */
+public final class EnumLookupRegistry<E extends Enum<E>> {
+
+  private static final ClassValue<EnumLookupRegistry<?>> registries = new ClassValue<>() {
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    protected EnumLookupRegistry<?> computeValue(Class<?> type) {
+      // Enumクラス側で宣言した逆引きを登録させるため、Enumクラスを初期化します.
+      type.getEnumConstants();
+      return new EnumLookupRegistry(type);
+    }
+  };
+
+  private final Class<E> enumClass;
+  private final ConcurrentMap<String, Registration<E>> lookups;
+
+  private EnumLookupRegistry(Class<E> enumClass) {
+    this.enumClass = enumClass;
+    this.lookups = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Enumクラスの登録簿を返却します.
+   *
+   * @param <E> 逆引き対象のEnumクラス
+   * @param enumClass 逆引き対象のEnumクラス
+   * @return 登録簿
+   * @throws IllegalArgumentException Enumクラス以外を指定した場合
+   */
+  @SuppressWarnings("unchecked")
+  public static <E extends Enum<E>> EnumLookupRegistry<E> of(Class<E> enumClass) {
+    if (!enumClass.isEnum()) {
+      throw new IllegalArgumentException(enumClass.getName() + " is not enum class.");
+    }
+    return (EnumLookupRegistry<E>) registries.get(enumClass);
+  }
+
+  /**
+   * 属性の逆引きを登録します.
+   * <p>
+   * 同じ名前で同じ属性値（全てのEnumインスタンスでGetterの値が等しい）の逆引きを登録済みの場合は、登録済みの逆引きを返却します.
+   * </p>
+   *
+   * @param <ATT> 逆引きしたいEnum属性値
+   * @param name 属性の名前
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   * @return 登録した逆引き
+   * @throws IllegalStateException 同じ名前で異なる属性値または照合方法の逆引きを登録済みの場合
+   */
+  public <ATT> EnumReverseLookup<E, ATT> register(String name, Function<E, ATT> getter) {
+    return this.registerLookup(name, getter, null, () -> new EnumReverseLookup<>(this.enumClass, getter));
+  }
+
+  /**
+   * 文字列の属性の逆引きを登録します.
+   * <p>
+   * 同じ名前で同じ属性値（全てのEnumインスタンスでGetterの値が等しい）と照合方法の逆引きを登録済みの場合は、登録済みの逆引きを返却します.
+   * </p>
+   *
+   * @param name 属性の名前
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   * @param matchMode 照合方法
+   * @return 登録した逆引き
+   * @throws IllegalStateException 同じ名前で異なる属性値または照合方法の逆引きを登録済みの場合
+   */
+  public EnumReverseLookup<E, String> registerText(String name, Function<E, String> getter, TextMatchMode matchMode) {
+    Objects.requireNonNull(matchMode);
+    return this.registerLookup(name, getter, matchMode, () -> EnumReverseLookup.ofText(this.enumClass, getter, matchMode));
+  }
+
+  /**
+   * 登録済みの逆引きを返却します.
+   *
+   * @param <ATT> 逆引きしたいEnum属性値
+   * @param name 属性の名前
+   * @return 登録済みの逆引き. 登録していない場合は空
+   */
+  @SuppressWarnings("unchecked")
+  public <ATT> Optional<EnumReverseLookup<E, ATT>> get(String name) {
+    var registration = this.lookups.get(name);
+    if (Objects.isNull(registration)) {
+      return Optional.empty();
+    }
+    return Optional.of((EnumReverseLookup<E, ATT>) registration.lookup);
+  }
+
+  /**
+   * 登録済みの逆引きで逆引きしたEnumインスタンスを返却します.
+   *
+   * @param <ATT> 逆引きしたいEnum属性値
+   * @param name 属性の名前
+   * @param attr Enum属性値
+   * @return 属性値に合致するEnumインスタンス
+   * @throws IllegalArgumentException 属性の名前を登録していない場合
+   */
+  @SuppressWarnings("unchecked")
+  public <ATT> Optional<E> lookup(String name, ATT attr) {
+    var registration = this.lookups.get(name);
+    if (Objects.isNull(registration)) {
+      throw new IllegalArgumentException(this.enumClass.getName() + " has no lookup. name = " + name);
+    }
+    return ((EnumReverseLookup<E, ATT>) registration.lookup).lookup(attr);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <ATT> EnumReverseLookup<E, ATT> registerLookup(String name, Function<E, ATT> getter,
+          TextMatchMode matchMode, Supplier<EnumReverseLookup<E, ATT>> factory) {
+    var attributes = this.attributes(getter);
+    var registration = this.lookups.computeIfAbsent(
+            name, key -> new Registration<>(attributes, matchMode, factory.get()));
+    // 同じ名前で異なる逆引きを登録した場合に、登録済みの逆引きを返却すると逆引きの結果が誤るため例外とします.
+    if (!registration.attributes.equals(attributes) || registration.matchMode != matchMode) {
+      throw new IllegalStateException(this.enumClass.getName() + " has different lookup. name = " + name);
+    }
+    return (EnumReverseLookup<E, ATT>) registration.lookup;
+  }
+
+  private List<Object> attributes(Function<E, ?> getter) {
+    var constants = this.enumClass.getEnumConstants();
+    var result = new ArrayList<Object>(constants.length);
+    for (var constant : constants) {
+      result.add(getter.apply(constant));
+    }
+    return result;
+  }
+
+  /**
+   * 登録した逆引きと、登録時の属性値と照合方法.
+   *
+   * @param <E> 逆引き対象のEnumクラス
+   */
+  private static final class Registration<E extends Enum<E>> {
+
+    private final List<Object> attributes;
+    private final TextMatchMode matchMode;
+    private final EnumReverseLookup<E, ?> lookup;
+
+    private Registration(List<Object> attributes, TextMatchMode matchMode, EnumReverseLookup<E, ?> lookup) {
+      this.attributes = attributes;
+      this.matchMode = matchMode;
+      this.lookup = lookup;
+    }
+  }
+}
@@ -1,8 +1,11 @@
 package org.verneermlab.base.utils.enumclass;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * Enumのコード値からEnumクラスから逆引きします.
@@ -22,7 +25,7 @@ import java.util.function.Function;
  * Optional<TestEnum> enumCls = TestEnum.byCd.lookup("1");
  * }
  * </p>
- *
+ * 逆引きの索引はインスタンス生成時に作成するため、逆引きは索引の参照のみで行います.
  *
  * @author Yamashita.Takahiro
  * @param <E> 逆引き対象のEnumクラス
@@ -30,30 +33,111 @@ import java.util.function.Function;
  */
 public class EnumReverseLookup<E extends Enum<E>, ATT> {
 
-  private final Class<E> enumClass;
-  private final Function<E, ATT> getter;
+  private final Map<ATT, Optional<E>> index;
+  private final UnaryOperator<ATT> normalizer;
 
   /**
    * インスタンスを生成します.
+   * <p>
+   * 属性値が重複する場合は、先に定義したEnumインスタンスを逆引きの対象とします.
+   * </p>
    *
    * @param enumClass 逆引き対象のEnumクラス
    * @param getter 逆引きしたいEnum属性値を取得するGetter
    */
   public EnumReverseLookup(Class<E> enumClass, Function<E, ATT> getter) {
-    this.enumClass = enumClass;
-    this.getter = getter;
+    this(enumClass, getter, DuplicatePolicy.FIRST);
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param enumClass 逆引き対象のEnumクラス
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   * @param duplicatePolicy 属性値が重複した場合の扱い
+   * @throws IllegalArgumentException 属性値の重複を許容しない指定で、属性値が重複する場合
+   */
+  public EnumReverseLookup(Class<E> enumClass, Function<E, ATT> getter, DuplicatePolicy duplicatePolicy) {
+    this(enumClass, getter, duplicatePolicy, UnaryOperator.identity());
+  }
+
+  private EnumReverseLookup(Class<E> enumClass, Function<E, ATT> getter, DuplicatePolicy duplicatePolicy,
+          UnaryOperator<ATT> normalizer) {
+    var constants = enumClass.getEnumConstants();
+    var map = new HashMap<ATT, Optional<E>>(constants.length * 2);
+    for (var constant : constants) {
+      var attr = normalizer.apply(getter.apply(constant));
+      if (Objects.isNull(attr)) {
+        continue;
+      }
+      var registered = map.putIfAbsent(attr, Optional.of(constant));
+      if (Objects.nonNull(registered) && duplicatePolicy == DuplicatePolicy.REJECT) {
+        throw new IllegalArgumentException(enumClass.getName() + " has duplicate attribute. attribute = " + attr
+                + ", constants = " + registered.get() + ", " + constant);
+      }
+    }
+    this.index = map;
+    this.normalizer = normalizer;
+  }
+
+  /**
+   * 文字列の属性値で逆引きするインスタンスを生成します.
+   * <p>
+   * 照合方法で正規化した属性値が重複する場合は、先に定義したEnumインスタンスを逆引きの対象とします.
+   * </p>
+   *
+   * @param <E> 逆引き対象のEnumクラス
+   * @param enumClass 逆引き対象のEnumクラス
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   * @param matchMode 照合方法
+   * @return 生成したインスタンス
+   */
+  public static <E extends Enum<E>> EnumReverseLookup<E, String> ofText(Class<E> enumClass,
+          Function<E, String> getter, TextMatchMode matchMode) {
+    return ofText(enumClass, getter, matchMode, DuplicatePolicy.FIRST);
+  }
+
+  /**
+   * 文字列の属性値で逆引きするインスタンスを生成します.
+   *
+   * @param <E> 逆引き対象のEnumクラス
+   * @param enumClass 逆引き対象のEnumクラス
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   * @param matchMode 照合方法
+   * @param duplicatePolicy 照合方法で正規化した属性値が重複した場合の扱い
+   * @return 生成したインスタンス
+   * @throws IllegalArgumentException 属性値の重複を許容しない指定で、属性値が重複する場合
+   */
+  public static <E extends Enum<E>> EnumReverseLookup<E, String> ofText(Class<E> enumClass,
+          Function<E, String> getter, TextMatchMode matchMode, DuplicatePolicy duplicatePolicy) {
+    return new EnumReverseLookup<>(enumClass, getter, duplicatePolicy, matchMode::normalize);
   }
 
   /**
    * 逆引きしたEnumインスタンスを返却します.
    *
    * @param attr Enum属性値
-   * @return 属性値に合致するEnumインスタンス（複数対象があった場合の取得する順序は保証しません）
+   * @return 属性値に合致するEnumインスタンス（複数対象があった場合は{@link DuplicatePolicy}に従います）
    */
   public Optional<E> lookup(ATT attr) {
-    var lookuped = Arrays.stream(this.enumClass.getEnumConstants())
-            .filter(e -> this.getter.apply(e).equals(attr)).findAny();
-    return lookuped;
+    var key = this.normalizer.apply(attr);
+    if (Objects.isNull(key)) {
+      return Optional.empty();
+    }
+    return this.index.getOrDefault(key, Optional.empty());
   }
 
+  /**
+   * 属性値が重複した場合の扱い.
+   */
+  public enum DuplicatePolicy {
+    /**
+     * 先に定義したEnumインスタンスを逆引きの対象とします.
+     */
+    FIRST,
+    /**
+     * 重複を許容せず、インスタンス生成時に例外をスローします.
+     */
+    REJECT;
+  }
 }
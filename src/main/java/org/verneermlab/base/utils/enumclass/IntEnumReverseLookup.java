@@ -0,0 +1,125 @@
+package org.verneermlab.base.utils.enumclass;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.ToIntFunction;
+
+/**
+ * Enumのint型のコード値からEnumクラスから逆引きします.
+ * <p>
+ * {@link EnumReverseLookup}と同じ使い方で、コード値をボクシングせずに逆引きします.
+ * </p>
+ * 記述例.<br>
+ * Enumクラス側
+ * <p>
+ * {@code
+ * static final IntEnumReverseLookup<TestEnum> byNo = new IntEnumReverseLookup<>(TestEnum.class, TestEnum::getNo);
+ * }
+ * </p>
+ * コード値が狭い範囲に収まる場合はコード値を添字とした配列で、それ以外は二分探索で逆引きします.
+ *
+ * @author Yamashita.Takahiro
+ * @param <E> 逆引き対象のEnumクラス
+ */
+public class IntEnumReverseLookup<E extends Enum<E>> {
+
+  /**
+   * 配列で逆引きする場合に許容する、コード値の範囲とEnumインスタンス数の比率.
+   */
+  private static final int DENSE_RATIO = 4;
+
+  private final int minCode;
+  private final Optional<E>[] denseIndex;
+  private final int[] sortedCodes;
+  private final Optional<E>[] sortedValues;
+
+  /**
+   * インスタンスを生成します.
+   * <p>
+   * 属性値が重複する場合は、先に定義したEnumインスタンスを逆引きの対象とします.
+   * </p>
+   *
+   * @param enumClass 逆引き対象のEnumクラス
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   */
+  public IntEnumReverseLookup(Class<E> enumClass, ToIntFunction<E> getter) {
+    this(enumClass, getter, EnumReverseLookup.DuplicatePolicy.FIRST);
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param enumClass 逆引き対象のEnumクラス
+   * @param getter 逆引きしたいEnum属性値を取得するGetter
+   * @param duplicatePolicy 属性値が重複した場合の扱い
+   * @throws IllegalArgumentException 属性値の重複を許容しない指定で、属性値が重複する場合
+   */
+  public IntEnumReverseLookup(Class<E> enumClass, ToIntFunction<E> getter,
+          EnumReverseLookup.DuplicatePolicy duplicatePolicy) {
+    var constants = enumClass.getEnumConstants();
+    // 同じコード値の場合は定義順とするため、安定ソートで並べ替えます.
+    var sorted = Arrays.copyOf(constants, constants.length);
+    Arrays.sort(sorted, Comparator.comparingInt(getter));
+
+    var codes = new int[sorted.length];
+    Optional<E>[] values = newOptionalArray(sorted.length);
+    int count = 0;
+    for (var constant : sorted) {
+      int code = getter.applyAsInt(constant);
+      if (count > 0 && codes[count - 1] == code) {
+        if (duplicatePolicy == EnumReverseLookup.DuplicatePolicy.REJECT) {
+          throw new IllegalArgumentException(enumClass.getName() + " has duplicate attribute. attribute = " + code
+                  + ", constants = " + values[count - 1].get() + ", " + constant);
+        }
+        continue;
+      }
+      codes[count] = code;
+      values[count] = Optional.of(constant);
+      count++;
+    }
+
+    this.minCode = count == 0 ? 0 : codes[0];
+    long range = count == 0 ? 0L : (long) codes[count - 1] - codes[0] + 1L;
+    if (count > 0 && range <= (long) count * DENSE_RATIO) {
+      Optional<E>[] dense = newOptionalArray((int) range);
+      Arrays.fill(dense, Optional.empty());
+      for (int i = 0; i < count; i++) {
+        dense[codes[i] - this.minCode] = values[i];
+      }
+      this.denseIndex = dense;
+      this.sortedCodes = null;
+      this.sortedValues = null;
+      return;
+    }
+    this.denseIndex = null;
+    this.sortedCodes = Arrays.copyOf(codes, count);
+    this.sortedValues = Arrays.copyOf(values, count);
+  }
+
+  /**
+   * 逆引きしたEnumインスタンスを返却します.
+   *
+   * @param attr Enum属性値
+   * @return 属性値に合致するEnumインスタンス（複数対象があった場合は先に定義したEnumインスタンス）
+   */
+  public Optional<E> lookup(int attr) {
+    if (this.denseIndex != null) {
+      long pos = (long) attr - this.minCode;
+      if (pos < 0 || pos >= this.denseIndex.length) {
+        return Optional.empty();
+      }
+      return this.denseIndex[(int) pos];
+    }
+    int pos = Arrays.binarySearch(this.sortedCodes, attr);
+    if (pos < 0) {
+      return Optional.empty();
+    }
+    return this.sortedValues[pos];
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E> Optional<E>[] newOptionalArray(int length) {
+    return (Optional<E>[]) new Optional<?>[length];
+  }
+}
@@ -0,0 +1,53 @@
+package org.verneermlab.base.utils.enumclass;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * 文字列の属性値で逆引きする場合の照合方法.
+ *
+ * @author Yamashita.Takahiro
+ */
+public enum TextMatchMode {
+  /**
+   * 完全一致で照合します.
+   */
+  EXACT(false, false),
+  /**
+   * 前後の空白を除去して照合します.
+   */
+  TRIM(true, false),
+  /**
+   * 大文字小文字を区別せずに照合します.
+   */
+  IGNORE_CASE(false, true),
+  /**
+   * 前後の空白を除去し、大文字小文字を区別せずに照合します.
+   */
+  TRIM_IGNORE_CASE(true, true);
+
+  private final boolean trim;
+  private final boolean ignoreCase;
+
+  private TextMatchMode(boolean trim, boolean ignoreCase) {
+    this.trim = trim;
+    this.ignoreCase = ignoreCase;
+  }
+
+  /**
+   * 照合方法に従って文字列を正規化します.
+   * <p>
+   * 正規化による変更がない場合は同じインスタンスを返却します.
+   * </p>
+   *
+   * @param value 正規化する文字列
+   * @return 正規化した文字列. 引数がnullの場合はnull
+   */
+  String normalize(String value) {
+    if (Objects.isNull(value)) {
+      return null;
+    }
+    var result = this.trim ? value.trim() : value;
+    return this.ignoreCase ? result.toLowerCase(Locale.ROOT) : result;
+  }
+}
@@ -0,0 +1,61 @@
+package org.verneermlab.base.utils.numeric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 数値をBigDecimalへ変換します.
+ * <p>
+ * {@code BigDecimal.valueOf(value.doubleValue())}や{@code new BigDecimal(double)}を経由せず、数値の型に応じて変換します.
+ * </p>
+ * 整数型は精度を落とさずに変換し、浮動小数点型は最短の10進表現で変換するため、変換後の値が必要以上の桁を保持しません.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class BigDecimalConverter {
+
+  /**
+   * doubleで誤差なく表現できる整数の最大値.
+   */
+  private static final double MAX_EXACT_INTEGRAL_DOUBLE = 9007199254740992d;
+
+  private BigDecimalConverter() {
+  }
+
+  /**
+   * 数値をBigDecimalへ変換します.
+   *
+   * @param value 変換元の数値
+   * @return 変換したBigDecimal
+   * @throws NullPointerException valueがNullの場合
+   * @throws NumberFormatException valueが無限大またはNaNの場合
+   */
+  public static BigDecimal toBigDecimal(Number value) {
+    if (value instanceof BigDecimal) {
+      return (BigDecimal) value;
+    }
+    if (value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte
+            || value instanceof AtomicInteger || value instanceof AtomicLong) {
+      return BigDecimal.valueOf(value.longValue());
+    }
+    if (value instanceof BigInteger) {
+      return new BigDecimal((BigInteger) value);
+    }
+    if (value instanceof Float) {
+      return isExactIntegral(value.doubleValue())
+              ? BigDecimal.valueOf(value.longValue())
+              : new BigDecimal(Float.toString(value.floatValue()));
+    }
+    double doubleValue = value.doubleValue();
+    return isExactIntegral(doubleValue)
+            ? BigDecimal.valueOf((long) doubleValue)
+            : BigDecimal.valueOf(doubleValue);
+  }
+
+  private static boolean isExactIntegral(double value) {
+    return Math.abs(value) <= MAX_EXACT_INTEGRAL_DOUBLE && value == Math.rint(value);
+  }
+}
@@ -0,0 +1,212 @@
+package org.verneermlab.base.utils.numeric;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 3桁区切りの数値書式（{@code #,##0}、{@code #,##0.00}など）の変換を行います.
+ * <p>
+ * 状態を保持しないため、{@link java.text.DecimalFormat}と異なり複数スレッドから同じインスタンスを使用できます.
+ * </p>
+ * 書式変換の丸めは{@link java.text.DecimalFormat}と同じく{@link RoundingMode#HALF_EVEN}とします.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class GroupingDecimalFormatter {
+
+  private static final int GROUPING_SIZE = 3;
+  private static final int MAX_LONG_DIGITS = 19;
+  private static final int MAX_COMPACT_PRECISION = 18;
+
+  private final int fractionDigits;
+
+  private GroupingDecimalFormatter(int fractionDigits) {
+    this.fractionDigits = fractionDigits;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param fractionDigits 小数点以下の桁数
+   * @return 生成したインスタンス
+   * @throws IllegalArgumentException 小数点以下の桁数がマイナスの場合
+   */
+  public static GroupingDecimalFormatter of(int fractionDigits) {
+    if (fractionDigits < 0) {
+      throw new IllegalArgumentException("fractionDigits must not be negative. fractionDigits = " + fractionDigits);
+    }
+    return new GroupingDecimalFormatter(fractionDigits);
+  }
+
+  /**
+   * 書式変換をした文字列を返却します.
+   *
+   * @param value 変換元の数値
+   * @return 変換した文字列
+   */
+  public String format(BigDecimal value) {
+    var builder = new StringBuilder(32);
+    this.formatTo(value, builder);
+    return builder.toString();
+  }
+
+  /**
+   * 小数点以下の桁数をスケールとした非スケール値を書式変換した文字列を返却します.
+   *
+   * @param unscaledValue 非スケール値
+   * @return 変換した文字列
+   */
+  public String format(long unscaledValue) {
+    var builder = new StringBuilder(32);
+    this.formatTo(unscaledValue, builder);
+    return builder.toString();
+  }
+
+  /**
+   * 書式変換をした文字列を追記します.
+   *
+   * @param value 変換元の数値
+   * @param builder 追記先
+   * @return 追記先
+   */
+  public StringBuilder formatTo(BigDecimal value, StringBuilder builder) {
+    var scaled = value.setScale(this.fractionDigits, RoundingMode.HALF_EVEN);
+    if (scaled.precision() <= MAX_COMPACT_PRECISION) {
+      return this.formatTo(scaled.unscaledValue().longValue(), builder);
+    }
+    var unscaled = scaled.unscaledValue().abs().toString();
+    var digits = new char[Math.max(unscaled.length(), this.fractionDigits + 1)];
+    int from = digits.length - unscaled.length();
+    unscaled.getChars(0, unscaled.length(), digits, from);
+    return this.appendGrouped(scaled.signum() < 0, digits, from, builder);
+  }
+
+  /**
+   * 小数点以下の桁数をスケールとした非スケール値を書式変換した文字列を追記します.
+   *
+   * @param unscaledValue 非スケール値
+   * @param builder 追記先
+   * @return 追記先
+   */
+  public StringBuilder formatTo(long unscaledValue, StringBuilder builder) {
+    var digits = new char[Math.max(MAX_LONG_DIGITS, this.fractionDigits + 1)];
+    int pos = digits.length;
+    long rest = unscaledValue;
+    do {
+      digits[--pos] = (char) ('0' + Math.abs(rest % 10));
+      rest /= 10;
+    } while (rest != 0);
+    return this.appendGrouped(unscaledValue < 0, digits, pos, builder);
+  }
+
+  /**
+   * 書式変換をした文字列を追記します.
+   *
+   * @param value 変換元の数値
+   * @param appendable 追記先
+   * @throws UncheckedIOException 追記に失敗した場合
+   */
+  public void formatTo(BigDecimal value, Appendable appendable) {
+    if (appendable instanceof StringBuilder) {
+      this.formatTo(value, (StringBuilder) appendable);
+      return;
+    }
+    try {
+      appendable.append(this.format(value));
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * 書式変換をした文字列を数値に変換します.
+   * <p>
+   * {@link java.text.DecimalFormat#parse(String)}と同じく、先頭から数値として解釈できる範囲を変換します.
+   * 区切り文字（{@code ,}）は小数点より前の任意の位置を許容します.
+   * </p>
+   *
+   * @param text 変換元の文字列
+   * @return 変換した数値
+   * @throws NumberFormatException 先頭に数値がない場合
+   */
+  public BigDecimal parse(CharSequence text) {
+    int length = text.length();
+    int pos = 0;
+    boolean negative = length > 0 && text.charAt(0) == '-';
+    if (negative) {
+      pos++;
+    }
+
+    long unscaled = 0L;
+    int scale = 0;
+    int digitCount = 0;
+    boolean fraction = false;
+    boolean overflow = false;
+    for (; pos < length; pos++) {
+      char c = text.charAt(pos);
+      if ('0' <= c && c <= '9') {
+        digitCount++;
+        if (fraction) {
+          scale++;
+        }
+        if (unscaled > (Long.MAX_VALUE - (c - '0')) / 10) {
+          overflow = true;
+        }
+        unscaled = unscaled * 10 + (c - '0');
+        continue;
+      }
+      if (c == ',' && !fraction) {
+        continue;
+      }
+      if (c == '.' && !fraction) {
+        fraction = true;
+        continue;
+      }
+      break;
+    }
+
+    if (digitCount == 0) {
+      throw new NumberFormatException("could not parse value = " + text);
+    }
+    if (overflow) {
+      return parseLarge(text, pos);
+    }
+    return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+  }
+
+  private StringBuilder appendGrouped(boolean negative, char[] digits, int from, StringBuilder builder) {
+    int start = from;
+    while (digits.length - start < this.fractionDigits + 1) {
+      // 整数部を最低1桁とするため、先頭を0で埋めます.
+      digits[--start] = '0';
+    }
+    int integerEnd = digits.length - this.fractionDigits;
+    if (negative) {
+      builder.append('-');
+    }
+    for (int i = start; i < integerEnd; i++) {
+      builder.append(digits[i]);
+      int rest = integerEnd - i - 1;
+      if (rest > 0 && rest % GROUPING_SIZE == 0) {
+        builder.append(',');
+      }
+    }
+    if (this.fractionDigits > 0) {
+      builder.append('.').append(digits, integerEnd, this.fractionDigits);
+    }
+    return builder;
+  }
+
+  private static BigDecimal parseLarge(CharSequence text, int end) {
+    var builder = new StringBuilder(end);
+    for (int i = 0; i < end; i++) {
+      char c = text.charAt(i);
+      if (c != ',') {
+        builder.append(c);
+      }
+    }
+    return new BigDecimal(builder.toString());
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ *  数値を扱うユーティリティを扱います.
+ */
+package org.verneermlab.base.utils.numeric;
@@ -0,0 +1,136 @@
+package org.verneermlab.base.utils.text;
+
+import java.text.BreakIterator;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * 文字列の書記素クラスタ（見た目上の1文字）の境界位置.
+ * <p>
+ * サロゲートペアや結合文字を1文字として扱うため、{@link BreakIterator#getCharacterInstance()}で境界を求めます.
+ * </p>
+ * 境界位置は生成時に一度だけ求めるため、文字数の取得と部分文字列の位置の取得は走査を伴いません.<br>
+ * 全てのcharが単独で1文字となる文字列（ASCII、結合文字を含まない日本語など）は、BreakIteratorを使用せずにcharの位置をそのまま境界位置とします.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class GraphemeIndex {
+
+  private static final GraphemeIndex EMPTY = new GraphemeIndex(0, null);
+
+  private final int length;
+
+  /**
+   * 書記素クラスタの開始位置（charの位置）. 末尾には文字列長を保持します.
+   * <p>
+   * 全てのcharが単独で1文字となる場合はnullとします.
+   * </p>
+   */
+  private final int[] offsets;
+
+  private GraphemeIndex(int length, int[] offsets) {
+    this.length = length;
+    this.offsets = offsets;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param value 対象の文字列
+   * @return 生成したインスタンス
+   */
+  public static GraphemeIndex of(String value) {
+    if (value.isEmpty()) {
+      return EMPTY;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (!isSingleCharGrapheme(value.charAt(i))) {
+        return ofBreakIterator(value);
+      }
+    }
+    return new GraphemeIndex(value.length(), null);
+  }
+
+  /**
+   * BreakIteratorで境界位置を求めたインスタンスを生成します.
+   *
+   * @param value 対象の文字列
+   * @return 生成したインスタンス
+   */
+  static GraphemeIndex ofBreakIterator(String value) {
+    var iterator = BreakIterator.getCharacterInstance();
+    iterator.setText(value);
+
+    var offsets = new int[value.length() + 1];
+    int count = 0;
+    for (int boundary = iterator.first(); boundary != BreakIterator.DONE; boundary = iterator.next()) {
+      offsets[count++] = boundary;
+    }
+    return new GraphemeIndex(count - 1, count == offsets.length ? offsets : Arrays.copyOf(offsets, count));
+  }
+
+  /**
+   * 文字数を返却します.
+   *
+   * @return 書記素クラスタの数
+   */
+  public int length() {
+    return this.length;
+  }
+
+  /**
+   * 書記素クラスタの位置に対応するcharの位置を返却します.
+   *
+   * @param index 書記素クラスタの位置（0以上、文字数以下）
+   * @return charの位置. 文字数を指定した場合は文字列長
+   * @throws IndexOutOfBoundsException 位置が範囲外の場合
+   */
+  public int offset(int index) {
+    if (this.offsets == null) {
+      return Objects.checkIndex(index, this.length + 1);
+    }
+    return this.offsets[index];
+  }
+
+  /**
+   * 前後の文字に関わらず、charが単独で1文字となるか判定します.
+   * <p>
+   * 結合文字、サロゲート、異体字セレクタ、ゼロ幅接合子、ハングル字母、CR（CRLFで1文字となるため）は対象外です.
+   * 判定は{@link BreakIterator#getCharacterInstance()}と結果が一致する範囲に限定しています.
+   * ハングルの声調記号（U+302E、U+302F）と半角の濁点・半濁点（U+FF9E、U+FF9F）は、
+   * JDKのUnicodeのバージョンによって結合文字（Extend）として扱われるため対象外です.
+   * </p>
+   *
+   * @param c 判定する文字
+   * @return 単独で1文字となる場合はtrue
+   */
+  static boolean isSingleCharGrapheme(char c) {
+    if (c < 0x0300) {
+      // ASCII、Latin-1、ラテン文字拡張
+      return c != '\r';
+    }
+    if (c < 0x2010) {
+      return false;
+    }
+    if (c <= 0x205E) {
+      // 一般句読点（行区切り、書式制御文字を除く）
+      return c <= 0x2027 || c >= 0x2030;
+    }
+    if (c < 0x3000) {
+      return false;
+    }
+    if (c <= 0x30FF) {
+      // CJKの記号及び句読点、ひらがな、カタカナ（結合文字、声調記号を除く）
+      return c <= 0x3029 || (0x3030 <= c && c <= 0x3098) || c >= 0x309B;
+    }
+    if (c < 0x3400) {
+      return false;
+    }
+    if (c <= 0x9FFF) {
+      // CJK統合漢字（拡張A含む）
+      return c <= 0x4DBF || c >= 0x4E00;
+    }
+    // 半角・全角形（半角の濁点、半濁点を除く）
+    return 0xFF00 <= c && c <= 0xFFEF && c != 0xFF9E && c != 0xFF9F;
+  }
+}
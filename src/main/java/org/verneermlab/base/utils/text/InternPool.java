@@ -0,0 +1,157 @@
+package org.verneermlab.base.utils.text;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 同じ文字列から生成したインスタンスを共有するための上限付きのプール.
+ * <p>
+ * 文字列のハッシュ値で決まる1つの枠にインスタンスを保持し、枠が使用済みの場合は新しいインスタンスで上書きします.
+ * 保持するインスタンスは枠の数を上限とし、ロックを使用せずに複数スレッドから参照と更新を行います.
+ * </p>
+ * 上書きされた場合や同時に登録した場合は同じ値の別インスタンスを返却することがあるため、同一性（{@code ==}）での比較には使用できません.
+ *
+ * @author Yamashita.Takahiro
+ * @param <T> 共有するインスタンスの型
+ */
+public final class InternPool<T> {
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final AtomicReferenceArray<T> slots;
+  private final int mask;
+  private final Function<String, T> factory;
+  private final Function<T, String> keyOf;
+  private final LongAdder hitCount;
+  private final LongAdder missCount;
+
+  private InternPool(int capacity, Function<String, T> factory, Function<T, String> keyOf) {
+    this.slots = new AtomicReferenceArray<>(capacity);
+    this.mask = capacity - 1;
+    this.factory = factory;
+    this.keyOf = keyOf;
+    this.hitCount = new LongAdder();
+    this.missCount = new LongAdder();
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param <T> 共有するインスタンスの型
+   * @param capacity 保持するインスタンスの上限（2のべき乗に切り上げます）
+   * @param factory 文字列からインスタンスを生成する関数
+   * @param keyOf インスタンスが保持する文字列を返却する関数
+   * @return 生成したインスタンス
+   * @throws IllegalArgumentException 上限が1未満の場合
+   */
+  public static <T> InternPool<T> of(int capacity, Function<String, T> factory, Function<T, String> keyOf) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive. capacity = " + capacity);
+    }
+    int size = capacity >= MAX_CAPACITY ? MAX_CAPACITY : Integer.highestOneBit(capacity - 1) << 1;
+    return new InternPool<>(Math.max(size, 1), factory, keyOf);
+  }
+
+  /**
+   * 文字列に対応するインスタンスを返却します.
+   * <p>
+   * 保持している場合は保持しているインスタンスを、保持していない場合は生成して保持したインスタンスを返却します.
+   * </p>
+   *
+   * @param value 文字列
+   * @return 文字列に対応するインスタンス
+   */
+  public T intern(String value) {
+    Objects.requireNonNull(value);
+    int hash = value.hashCode();
+    int index = (hash ^ (hash >>> 16)) & this.mask;
+    var pooled = this.slots.get(index);
+    if (pooled != null && value.equals(this.keyOf.apply(pooled))) {
+      this.hitCount.increment();
+      return pooled;
+    }
+    this.missCount.increment();
+    var created = this.factory.apply(value);
+    this.slots.set(index, created);
+    return created;
+  }
+
+  /**
+   * 保持しているインスタンスを全て破棄します.
+   * <p>
+   * 共有した回数は初期化しません.
+   * </p>
+   */
+  public void clear() {
+    for (int i = 0; i < this.slots.length(); i++) {
+      this.slots.set(i, null);
+    }
+  }
+
+  /**
+   * 保持するインスタンスの上限を返却します.
+   *
+   * @return 上限
+   */
+  public int capacity() {
+    return this.slots.length();
+  }
+
+  /**
+   * 共有した回数の集計を返却します.
+   *
+   * @return 呼び出し時点の集計
+   */
+  public Statistics statistics() {
+    return new Statistics(this.hitCount.sum(), this.missCount.sum());
+  }
+
+  /**
+   * 共有した回数の集計.
+   */
+  public static final class Statistics {
+
+    private final long hitCount;
+    private final long missCount;
+
+    private Statistics(long hitCount, long missCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+    }
+
+    /**
+     * 保持しているインスタンスを返却した回数を返却します.
+     *
+     * @return 共有した回数
+     */
+    public long hitCount() {
+      return this.hitCount;
+    }
+
+    /**
+     * インスタンスを生成した回数を返却します.
+     *
+     * @return 生成した回数
+     */
+    public long missCount() {
+      return this.missCount;
+    }
+
+    /**
+     * 保持しているインスタンスを返却した割合を返却します.
+     *
+     * @return 共有した割合（0.0〜1.0）. 呼び出しがない場合は0.0
+     */
+    public double hitRate() {
+      long total = this.hitCount + this.missCount;
+      return total == 0 ? 0.0 : (double) this.hitCount / total;
+    }
+
+    @Override
+    public String toString() {
+      return "hitCount=" + this.hitCount + ", missCount=" + this.missCount + ", hitRate=" + this.hitRate();
+    }
+  }
+}
@@ -0,0 +1,162 @@
+package org.verneermlab.base.utils.text;
+
+import java.util.Collection;
+import java.util.Objects;
+import org.verneermlab.base.domain.type.text.NullableTextType;
+
+/**
+ * 同じ区切り文字で文字列を繰り返し結合します.
+ * <p>
+ * 結合後の桁数を求めてから1つのバッファへ書き込むため、結合の途中で文字列のリストや中間の文字列を生成しません.
+ * 値を保持していない要素は空文字として結合します.
+ * </p>
+ * 状態を保持しないため、複数スレッドから同じインスタンスを使用できます.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class TextJoiner {
+
+  private static final TextJoiner NO_DELIMITER = new TextJoiner("");
+
+  private final String delimiter;
+
+  private TextJoiner(String delimiter) {
+    this.delimiter = delimiter;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param delimiter 区切り文字. nullの場合は区切り文字なし
+   * @return 生成したインスタンス
+   */
+  public static TextJoiner of(String delimiter) {
+    if (Objects.isNull(delimiter) || delimiter.isEmpty()) {
+      return NO_DELIMITER;
+    }
+    return new TextJoiner(delimiter);
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param delimiter 区切り文字. nullまたは値を保持していない場合は区切り文字なし
+   * @return 生成したインスタンス
+   */
+  public static TextJoiner of(NullableTextType<?> delimiter) {
+    return of(Objects.isNull(delimiter) ? null : delimiter.rawValue());
+  }
+
+  /**
+   * 文字列を結合します.
+   *
+   * @param texts 結合する文字列
+   * @return 結合した文字列
+   */
+  public String join(NullableTextType<?>... texts) {
+    return this.joinArrayTo(new StringBuilder(this.length(null, texts)), null, texts).toString();
+  }
+
+  /**
+   * 文字列を結合します.
+   *
+   * @param texts 結合する文字列
+   * @return 結合した文字列
+   */
+  public String join(Collection<? extends NullableTextType<?>> texts) {
+    return this.joinFrom(null, texts);
+  }
+
+  /**
+   * 先頭の文字列に続けて文字列を結合します.
+   *
+   * @param head 先頭の文字列. nullの場合は先頭の文字列なし
+   * @param texts 続けて結合する文字列
+   * @return 結合した文字列
+   */
+  public String joinFrom(NullableTextType<?> head, NullableTextType<?>... texts) {
+    return this.joinArrayTo(new StringBuilder(this.length(head, texts)), head, texts).toString();
+  }
+
+  /**
+   * 先頭の文字列に続けて文字列を結合します.
+   *
+   * @param head 先頭の文字列. nullの場合は先頭の文字列なし
+   * @param texts 続けて結合する文字列
+   * @return 結合した文字列
+   */
+  public String joinFrom(NullableTextType<?> head, Collection<? extends NullableTextType<?>> texts) {
+    int count = texts.size() + (Objects.isNull(head) ? 0 : 1);
+    int length = this.delimiter.length() * Math.max(count - 1, 0) + lengthOf(head);
+    for (var text : texts) {
+      length += lengthOf(text);
+    }
+    var builder = new StringBuilder(length);
+    if (Objects.nonNull(head)) {
+      appendTo(builder, head);
+      if (!texts.isEmpty()) {
+        builder.append(this.delimiter);
+      }
+    }
+    return this.joinTo(builder, texts).toString();
+  }
+
+  /**
+   * 文字列を結合して追記します.
+   *
+   * @param builder 追記先
+   * @param texts 結合する文字列
+   * @return 追記先
+   */
+  public StringBuilder joinTo(StringBuilder builder, Collection<? extends NullableTextType<?>> texts) {
+    boolean first = true;
+    for (var text : texts) {
+      if (!first) {
+        builder.append(this.delimiter);
+      }
+      appendTo(builder, text);
+      first = false;
+    }
+    return builder;
+  }
+
+  private int length(NullableTextType<?> head, NullableTextType<?>[] texts) {
+    int count = texts.length + (Objects.isNull(head) ? 0 : 1);
+    int length = this.delimiter.length() * Math.max(count - 1, 0) + lengthOf(head);
+    for (var text : texts) {
+      length += lengthOf(text);
+    }
+    return length;
+  }
+
+  private StringBuilder joinArrayTo(StringBuilder builder, NullableTextType<?> head, NullableTextType<?>[] texts) {
+    boolean first = Objects.isNull(head);
+    appendTo(builder, head);
+    for (var text : texts) {
+      if (!first) {
+        builder.append(this.delimiter);
+      }
+      appendTo(builder, text);
+      first = false;
+    }
+    return builder;
+  }
+
+  private static int lengthOf(NullableTextType<?> text) {
+    if (Objects.isNull(text)) {
+      return 0;
+    }
+    var value = text.rawValue();
+    return Objects.isNull(value) ? 0 : value.length();
+  }
+
+  private static void appendTo(StringBuilder builder, NullableTextType<?> text) {
+    if (Objects.isNull(text)) {
+      return;
+    }
+    var value = text.rawValue();
+    if (Objects.nonNull(value)) {
+      builder.append(value);
+    }
+  }
+}
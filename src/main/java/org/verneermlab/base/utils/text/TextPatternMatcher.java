@@ -0,0 +1,236 @@
+package org.verneermlab.base.utils.text;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import org.verneermlab.base.domain.type.text.NullableTextType;
+
+/**
+ * 複数の検索文字列を1回の走査で検索します.
+ * <p>
+ * 検索文字列からAho–Corasick法のオートマトンを生成し、対象の文字列を先頭から1度だけ走査して全ての検索文字列の出現を判定します.
+ * 検索時間は検索文字列の数によらず、対象の文字列長に比例します.
+ * </p>
+ * {@link NullableTextType#contains(NullableTextType)}と同じく、空文字または値を保持していない検索文字列は一致しません.
+ * 生成後は状態を変更しないため、複数スレッドから同じインスタンスを使用できます.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class TextPatternMatcher {
+
+  private static final int ROOT = 0;
+  private static final int[] NO_OUTPUT = new int[0];
+
+  private final int patternCount;
+
+  /**
+   * 状態ごとの遷移文字（昇順）.
+   */
+  private final char[][] keys;
+
+  /**
+   * 状態ごとの遷移先（{@link #keys}と同じ並び）.
+   */
+  private final int[][] targets;
+
+  /**
+   * 状態ごとの失敗時の遷移先.
+   */
+  private final int[] failures;
+
+  /**
+   * 状態ごとに一致する検索文字列の位置（失敗時の遷移先で一致するものを含む）.
+   */
+  private final int[][] outputs;
+
+  private TextPatternMatcher(int patternCount, char[][] keys, int[][] targets, int[] failures, int[][] outputs) {
+    this.patternCount = patternCount;
+    this.keys = keys;
+    this.targets = targets;
+    this.failures = failures;
+    this.outputs = outputs;
+  }
+
+  /**
+   * インスタンスを生成します.
+   *
+   * @param needles 検索文字列のリスト
+   * @return 生成したインスタンス
+   */
+  public static TextPatternMatcher of(Collection<? extends NullableTextType<?>> needles) {
+    var children = new ArrayList<TreeMap<Character, Integer>>();
+    var nodeOutputs = new ArrayList<int[]>();
+    children.add(new TreeMap<>());
+    nodeOutputs.add(NO_OUTPUT);
+
+    int patternIndex = 0;
+    for (var needle : needles) {
+      int index = patternIndex++;
+      if (Objects.isNull(needle) || needle.isEmpty()) {
+        continue;
+      }
+      var value = needle.rawValue();
+      int node = ROOT;
+      for (int i = 0; i < value.length(); i++) {
+        var next = children.get(node).get(value.charAt(i));
+        if (Objects.isNull(next)) {
+          next = children.size();
+          children.get(node).put(value.charAt(i), next);
+          children.add(new TreeMap<>());
+          nodeOutputs.add(NO_OUTPUT);
+        }
+        node = next;
+      }
+      nodeOutputs.set(node, append(nodeOutputs.get(node), index));
+    }
+
+    int size = children.size();
+    var keys = new char[size][];
+    var targets = new int[size][];
+    for (int node = 0; node < size; node++) {
+      var map = children.get(node);
+      keys[node] = new char[map.size()];
+      targets[node] = new int[map.size()];
+      int i = 0;
+      for (var entry : map.entrySet()) {
+        keys[node][i] = entry.getKey();
+        targets[node][i] = entry.getValue();
+        i++;
+      }
+    }
+
+    // 幅優先で失敗時の遷移先を求め、遷移先で一致する検索文字列を引き継ぎます.
+    var failures = new int[size];
+    var outputs = nodeOutputs.toArray(new int[size][]);
+    var queue = new ArrayDeque<Integer>();
+    for (int child : targets[ROOT]) {
+      failures[child] = ROOT;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int node = queue.poll();
+      for (int i = 0; i < keys[node].length; i++) {
+        char c = keys[node][i];
+        int child = targets[node][i];
+        int failure = failures[node];
+        int next;
+        while ((next = transition(keys, targets, failure, c)) < 0 && failure != ROOT) {
+          failure = failures[failure];
+        }
+        failures[child] = next < 0 ? ROOT : next;
+        outputs[child] = merge(outputs[child], outputs[failures[child]]);
+        queue.add(child);
+      }
+    }
+    return new TextPatternMatcher(patternIndex, keys, targets, failures, outputs);
+  }
+
+  /**
+   * いずれかの検索文字列が含まれるか判定します.
+   *
+   * @param haystack 検索対象の文字列
+   * @return いずれかの検索文字列が含まれる場合はtrue<br>検索対象が空文字またはnullの場合はfalse
+   */
+  public boolean containsAny(NullableTextType<?> haystack) {
+    if (Objects.isNull(haystack) || haystack.isEmpty()) {
+      return false;
+    }
+    var value = haystack.rawValue();
+    int node = ROOT;
+    for (int i = 0; i < value.length(); i++) {
+      node = this.next(node, value.charAt(i));
+      if (this.outputs[node].length > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * 全ての検索文字列が含まれるか判定します.
+   *
+   * @param haystack 検索対象の文字列
+   * @return 全ての検索文字列が含まれる場合はtrue<br>空文字またはnullの検索文字列がある場合はfalse
+   */
+  public boolean containsAll(NullableTextType<?> haystack) {
+    return this.matches(haystack).cardinality() == this.patternCount;
+  }
+
+  /**
+   * 含まれる検索文字列を返却します.
+   *
+   * @param haystack 検索対象の文字列
+   * @return 含まれる検索文字列の位置（生成時に指定した検索文字列のリストの位置）
+   */
+  public BitSet matches(NullableTextType<?> haystack) {
+    var result = new BitSet(this.patternCount);
+    if (Objects.isNull(haystack) || haystack.isEmpty()) {
+      return result;
+    }
+    var value = haystack.rawValue();
+    int node = ROOT;
+    for (int i = 0; i < value.length(); i++) {
+      node = this.next(node, value.charAt(i));
+      for (int index : this.outputs[node]) {
+        result.set(index);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * いずれかの検索文字列を含む要素を抽出します.
+   *
+   * @param <T> 検索対象の型
+   * @param haystacks 検索対象の文字列のリスト
+   * @return いずれかの検索文字列を含む要素のリスト（引数と同じ順序）
+   */
+  public <T extends NullableTextType<?>> List<T> filter(Collection<? extends T> haystacks) {
+    var result = new ArrayList<T>();
+    for (T haystack : haystacks) {
+      if (this.containsAny(haystack)) {
+        result.add(haystack);
+      }
+    }
+    return result;
+  }
+
+  private int next(int node, char c) {
+    int current = node;
+    while (true) {
+      int next = transition(this.keys, this.targets, current, c);
+      if (next >= 0) {
+        return next;
+      }
+      if (current == ROOT) {
+        return ROOT;
+      }
+      current = this.failures[current];
+    }
+  }
+
+  private static int transition(char[][] keys, int[][] targets, int node, char c) {
+    int pos = Arrays.binarySearch(keys[node], c);
+    return pos < 0 ? -1 : targets[node][pos];
+  }
+
+  private static int[] append(int[] values, int value) {
+    var result = Arrays.copyOf(values, values.length + 1);
+    result[values.length] = value;
+    return result;
+  }
+
+  private static int[] merge(int[] values, int[] others) {
+    if (others.length == 0) {
+      return values;
+    }
+    var result = Arrays.copyOf(values, values.length + others.length);
+    System.arraycopy(others, 0, result, values.length, others.length);
+    return result;
+  }
+}
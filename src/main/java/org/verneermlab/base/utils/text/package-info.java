@@ -0,0 +1,4 @@
+/**
+ *  文字列を扱うユーティリティを扱います.
+ */
+package org.verneermlab.base.utils.text;
@@ -0,0 +1,194 @@
+package org.verneermlab.base.utils.time;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+
+/**
+ * 日付文字列（{@code uuuuMMdd}形式、{@code uuuuMM}形式）の変換を行います.
+ * <p>
+ * 8桁の数字は{@link DateTimeFormatter}を使用せずに変換します.
+ * 検証は{@code DateTimeFormatter.ofPattern("uuuuMMdd")}と同じで、月は1〜12、日は1〜31を許容し、月末を超える日は月末日とします.
+ * </p>
+ * 符号付きの年（{@code +123450101}など）は{@link DateTimeFormatter}で変換します.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class BasicDateFormat {
+
+  /**
+   * 変換できないことを表すエポック日.
+   */
+  public static final long INVALID = Long.MIN_VALUE;
+
+  private static final DateTimeFormatter formatterYYYYMMDD = DateTimeFormatter.ofPattern("uuuuMMdd");
+  private static final DateTimeFormatter formatterYYYYMM = DateTimeFormatter.ofPattern("uuuuMM");
+
+  private static final int LENGTH_YYYYMMDD = 8;
+  private static final int MAX_FAST_YEAR = 9999;
+  private static final int DAYS_0000_TO_1970 = 719528;
+
+  private BasicDateFormat() {
+  }
+
+  /**
+   * 日付文字列（{@code uuuuMMdd}形式）をエポック日へ変換します.
+   * <p>
+   * 変換できない場合も例外をスローしません.
+   * </p>
+   *
+   * @param text 日付文字列
+   * @return エポック日（1970-01-01からの日数）. 変換できない場合は{@link #INVALID}
+   */
+  public static long parseEpochDay(CharSequence text) {
+    if (text.length() == LENGTH_YYYYMMDD) {
+      int year = digits(text, 0, 4);
+      int month = digits(text, 4, 2);
+      int day = digits(text, 6, 2);
+      if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+        return INVALID;
+      }
+      return toEpochDay(year, month, Math.min(day, lengthOfMonth(year, month)));
+    }
+    if (text.length() > LENGTH_YYYYMMDD && (text.charAt(0) == '+' || text.charAt(0) == '-')) {
+      try {
+        return formatterYYYYMMDD.parse(text).getLong(ChronoField.EPOCH_DAY);
+      } catch (DateTimeParseException ex) {
+        return INVALID;
+      }
+    }
+    return INVALID;
+  }
+
+  /**
+   * 日付文字列（{@code uuuuMMdd}形式）を日付へ変換します.
+   *
+   * @param text 日付文字列
+   * @return 日付
+   * @throws DateTimeParseException 変換できない場合
+   */
+  public static LocalDate parse(CharSequence text) {
+    long epochDay = parseEpochDay(text);
+    if (epochDay == INVALID) {
+      // 例外の内容をDateTimeFormatterと同じとするため、DateTimeFormatterで変換します.
+      return LocalDate.parse(text, formatterYYYYMMDD);
+    }
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * 日付文字列（{@code uuuuMMdd}形式）を追記します.
+   *
+   * @param date 日付
+   * @param builder 追記先
+   * @return 追記先
+   */
+  public static StringBuilder formatTo(LocalDate date, StringBuilder builder) {
+    int year = date.getYear();
+    if (year < 0 || year > MAX_FAST_YEAR) {
+      return builder.append(formatterYYYYMMDD.format(date));
+    }
+    appendDigits(builder, year, 4);
+    appendDigits(builder, date.getMonthValue(), 2);
+    return appendDigits(builder, date.getDayOfMonth(), 2);
+  }
+
+  /**
+   * 日付文字列（{@code uuuuMMdd}形式）を返却します.
+   *
+   * @param date 日付
+   * @return 日付文字列
+   */
+  public static String format(LocalDate date) {
+    int year = date.getYear();
+    if (year < 0 || year > MAX_FAST_YEAR) {
+      return formatterYYYYMMDD.format(date);
+    }
+    var chars = new char[LENGTH_YYYYMMDD];
+    writeDigits(chars, 0, year, 4);
+    writeDigits(chars, 4, date.getMonthValue(), 2);
+    writeDigits(chars, 6, date.getDayOfMonth(), 2);
+    return new String(chars);
+  }
+
+  /**
+   * 年月文字列（{@code uuuuMM}形式）を返却します.
+   *
+   * @param date 日付
+   * @return 年月文字列
+   */
+  public static String formatYearMonth(LocalDate date) {
+    int year = date.getYear();
+    if (year < 0 || year > MAX_FAST_YEAR) {
+      return formatterYYYYMM.format(date);
+    }
+    var chars = new char[6];
+    writeDigits(chars, 0, year, 4);
+    writeDigits(chars, 4, date.getMonthValue(), 2);
+    return new String(chars);
+  }
+
+  static int digits(CharSequence text, int from, int length) {
+    int result = 0;
+    for (int i = from; i < from + length; i++) {
+      int digit = text.charAt(i) - '0';
+      if (digit < 0 || digit > 9) {
+        return -1;
+      }
+      result = result * 10 + digit;
+    }
+    return result;
+  }
+
+  static StringBuilder appendDigits(StringBuilder builder, int value, int length) {
+    int divisor = length == 4 ? 1000 : 10;
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('0' + value / divisor % 10));
+      divisor /= 10;
+    }
+    return builder;
+  }
+
+  static void writeDigits(char[] chars, int from, int value, int length) {
+    int rest = value;
+    for (int i = from + length - 1; i >= from; i--) {
+      chars[i] = (char) ('0' + rest % 10);
+      rest /= 10;
+    }
+  }
+
+  static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static boolean isLeapYear(int year) {
+    return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+  }
+
+  /**
+   * 0年以降の日付のエポック日を求めます（{@link LocalDate#toEpochDay()}と同じ計算）.
+   */
+  static long toEpochDay(int year, int month, int day) {
+    long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+    total += (367 * month - 362) / 12;
+    total += day - 1;
+    if (month > 2) {
+      total--;
+      if (!isLeapYear(year)) {
+        total--;
+      }
+    }
+    return total - DAYS_0000_TO_1970;
+  }
+}
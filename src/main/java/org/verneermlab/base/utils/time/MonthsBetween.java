@@ -0,0 +1,132 @@
+package org.verneermlab.base.utils.time;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * 2つの日付の間の月数を求めます.
+ * <p>
+ * {@link java.time.Period#between(LocalDate, LocalDate)}と同じ月数と日数を、Periodを生成せずに整数演算で求めます.
+ * </p>
+ * 0.5ヶ月単位の月数は、残りの日数を30日で割った値を小数点以下2桁で四捨五入し、さらに0.5単位で四捨五入した値です.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class MonthsBetween {
+
+  private static final int DAYS_OF_MONTH = 30;
+
+  /**
+   * 生成済みのインスタンスを使用する半月数の範囲（±100年）.
+   */
+  private static final int CACHED_HALF_MONTHS = 2400;
+
+  private static final BigDecimal[] cache = new BigDecimal[CACHED_HALF_MONTHS * 2 + 1];
+
+  static {
+    for (int i = 0; i < cache.length; i++) {
+      cache[i] = toDecimal(i - CACHED_HALF_MONTHS);
+    }
+  }
+
+  private MonthsBetween() {
+  }
+
+  /**
+   * 月数を返却します.
+   * <p>
+   * {@code Period.between(start, end).toTotalMonths()}と同じ値を返却します.
+   * </p>
+   *
+   * @param start 開始日
+   * @param end 終了日
+   * @return 月数
+   */
+  public static long totalMonths(LocalDate start, LocalDate end) {
+    long totalMonths = prolepticMonth(end) - prolepticMonth(start);
+    int days = end.getDayOfMonth() - start.getDayOfMonth();
+    if (totalMonths > 0 && days < 0) {
+      totalMonths--;
+    } else if (totalMonths < 0 && days > 0) {
+      totalMonths++;
+    }
+    return totalMonths;
+  }
+
+  /**
+   * 0.5ヶ月単位の月数を、半月の数で返却します.
+   *
+   * @param start 開始日
+   * @param end 終了日
+   * @return 半月の数（1.5ヶ月の場合は3）
+   */
+  public static long halfMonths(LocalDate start, LocalDate end) {
+    long totalMonths = prolepticMonth(end) - prolepticMonth(start);
+    int days = end.getDayOfMonth() - start.getDayOfMonth();
+    if (totalMonths > 0 && days < 0) {
+      totalMonths--;
+      // 開始日から月数後の日（月末を超える場合は月末日）から終了日までの日数.
+      boolean january = end.getMonthValue() == 1;
+      int lengthOfMonth = Month.of(january ? 12 : end.getMonthValue() - 1)
+              .length(Year.isLeap(january ? end.getYear() - 1 : end.getYear()));
+      days = lengthOfMonth - Math.min(start.getDayOfMonth(), lengthOfMonth) + end.getDayOfMonth();
+    } else if (totalMonths < 0 && days > 0) {
+      totalMonths++;
+      days -= end.lengthOfMonth();
+    }
+    return totalMonths * 2 + roundHalfMonths(days);
+  }
+
+  /**
+   * 0.5ヶ月単位の月数を返却します.
+   * <p>
+   * 月数が整数の場合はスケール0、0.5の端数がある場合はスケール1の値を返却します.
+   * </p>
+   *
+   * @param start 開始日
+   * @param end 終了日
+   * @return 月数（0.5単位での月数）
+   */
+  public static BigDecimal halfUp(LocalDate start, LocalDate end) {
+    return ofHalfMonths(halfMonths(start, end));
+  }
+
+  /**
+   * 半月の数を月数へ変換します.
+   *
+   * @param halfMonths 半月の数
+   * @return 月数（0.5単位での月数）
+   */
+  public static BigDecimal ofHalfMonths(long halfMonths) {
+    if (-CACHED_HALF_MONTHS <= halfMonths && halfMonths <= CACHED_HALF_MONTHS) {
+      return cache[(int) halfMonths + CACHED_HALF_MONTHS];
+    }
+    return toDecimal(halfMonths);
+  }
+
+  /**
+   * 日数（-30〜30）を半月の数へ丸めます.
+   * <p>
+   * {@code days / 30}を小数点以下2桁で四捨五入し、その2倍を整数に四捨五入した値です（いずれも0から遠い方向へ丸めます）.
+   * </p>
+   */
+  static int roundHalfMonths(int days) {
+    int abs = Math.abs(days);
+    int hundredths = (abs * 100 + DAYS_OF_MONTH / 2) / DAYS_OF_MONTH;
+    int halves = (hundredths * 2 + 50) / 100;
+    return days < 0 ? -halves : halves;
+  }
+
+  private static BigDecimal toDecimal(long halfMonths) {
+    if (halfMonths % 2 == 0) {
+      return BigDecimal.valueOf(halfMonths / 2);
+    }
+    return BigDecimal.valueOf(halfMonths * 5, 1);
+  }
+
+  private static long prolepticMonth(LocalDate date) {
+    return date.getYear() * 12L + date.getMonthValue() - 1;
+  }
+}
@@ -0,0 +1,182 @@
+package org.verneermlab.base.utils.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoField;
+
+/**
+ * 区切り文字付きの日付文字列（{@code uuuu/MM/dd}形式）と日時文字列（{@code uuuu/MM/dd HH:mm:ss}形式）の変換を行います.
+ * <p>
+ * 0〜9999年の日付と日時は{@link DateTimeFormatter}を使用せずに変換します.
+ * 検証は{@link BasicDateFormat}と同じく{@link DateTimeFormatter#ofPattern(String)}と同じです.
+ * </p>
+ * 日時文字列はスレッドごとに直前に変換した日時文字列を保持し、同じ日の日時は日付部分を、同じ秒の日時は全体を再利用します.
+ *
+ * @author Yamashita.Takahiro
+ */
+public final class SlashDateTimeFormat {
+
+  private static final DateTimeFormatter formatterDate = DateTimeFormatter.ofPattern("uuuu/MM/dd");
+  private static final DateTimeFormatter formatterDateTime = DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm:ss");
+
+  private static final int LENGTH_DATE = 10;
+  private static final int LENGTH_DATE_TIME = 19;
+  private static final int MAX_FAST_YEAR = 9999;
+
+  private static final ThreadLocal<LastDateTime> lastDateTime = ThreadLocal.withInitial(LastDateTime::new);
+
+  private SlashDateTimeFormat() {
+  }
+
+  /**
+   * 日付文字列（{@code uuuu/MM/dd}形式）をエポック日へ変換します.
+   * <p>
+   * 変換できない場合も例外をスローしません.
+   * </p>
+   *
+   * @param text 日付文字列
+   * @return エポック日（1970-01-01からの日数）. 変換できない場合は{@link BasicDateFormat#INVALID}
+   */
+  public static long parseEpochDay(CharSequence text) {
+    if (text.length() == LENGTH_DATE) {
+      if (text.charAt(4) != '/' || text.charAt(7) != '/') {
+        return BasicDateFormat.INVALID;
+      }
+      int year = BasicDateFormat.digits(text, 0, 4);
+      int month = BasicDateFormat.digits(text, 5, 2);
+      int day = BasicDateFormat.digits(text, 8, 2);
+      if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+        return BasicDateFormat.INVALID;
+      }
+      return BasicDateFormat.toEpochDay(year, month, Math.min(day, BasicDateFormat.lengthOfMonth(year, month)));
+    }
+    if (text.length() > LENGTH_DATE && (text.charAt(0) == '+' || text.charAt(0) == '-')) {
+      try {
+        return formatterDate.parse(text).getLong(ChronoField.EPOCH_DAY);
+      } catch (DateTimeParseException ex) {
+        return BasicDateFormat.INVALID;
+      }
+    }
+    return BasicDateFormat.INVALID;
+  }
+
+  /**
+   * 日付文字列（{@code uuuu/MM/dd}形式）を日付へ変換します.
+   *
+   * @param text 日付文字列
+   * @return 日付
+   * @throws DateTimeParseException 変換できない場合
+   */
+  public static LocalDate parseDate(CharSequence text) {
+    long epochDay = parseEpochDay(text);
+    if (epochDay == BasicDateFormat.INVALID) {
+      // 例外の内容をDateTimeFormatterと同じとするため、DateTimeFormatterで変換します.
+      return LocalDate.parse(text, formatterDate);
+    }
+    return LocalDate.ofEpochDay(epochDay);
+  }
+
+  /**
+   * 日付文字列（{@code uuuu/MM/dd}形式）を返却します.
+   *
+   * @param date 日付
+   * @return 日付文字列
+   */
+  public static String formatDate(LocalDate date) {
+    if (!isFastYear(date.getYear())) {
+      return formatterDate.format(date);
+    }
+    var chars = new char[LENGTH_DATE];
+    writeDate(chars, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    return new String(chars);
+  }
+
+  /**
+   * 日付文字列（{@code uuuu/MM/dd}形式）を追記します.
+   *
+   * @param date 日付
+   * @param builder 追記先
+   * @return 追記先
+   */
+  public static StringBuilder formatDateTo(LocalDate date, StringBuilder builder) {
+    if (!isFastYear(date.getYear())) {
+      return builder.append(formatterDate.format(date));
+    }
+    BasicDateFormat.appendDigits(builder, date.getYear(), 4).append('/');
+    BasicDateFormat.appendDigits(builder, date.getMonthValue(), 2).append('/');
+    return BasicDateFormat.appendDigits(builder, date.getDayOfMonth(), 2);
+  }
+
+  /**
+   * 日時文字列（{@code uuuu/MM/dd HH:mm:ss}形式）を返却します.
+   *
+   * @param dateTime 日時
+   * @return 日時文字列
+   */
+  public static String formatDateTime(LocalDateTime dateTime) {
+    if (!isFastYear(dateTime.getYear())) {
+      return formatterDateTime.format(dateTime);
+    }
+    return new String(lastDateTime.get().format(dateTime));
+  }
+
+  /**
+   * 日時文字列（{@code uuuu/MM/dd HH:mm:ss}形式）を追記します.
+   *
+   * @param dateTime 日時
+   * @param builder 追記先
+   * @return 追記先
+   */
+  public static StringBuilder formatDateTimeTo(LocalDateTime dateTime, StringBuilder builder) {
+    if (!isFastYear(dateTime.getYear())) {
+      return builder.append(formatterDateTime.format(dateTime));
+    }
+    return builder.append(lastDateTime.get().format(dateTime));
+  }
+
+  private static boolean isFastYear(int year) {
+    return 0 <= year && year <= MAX_FAST_YEAR;
+  }
+
+  private static void writeDate(char[] chars, int year, int month, int day) {
+    BasicDateFormat.writeDigits(chars, 0, year, 4);
+    chars[4] = '/';
+    BasicDateFormat.writeDigits(chars, 5, month, 2);
+    chars[7] = '/';
+    BasicDateFormat.writeDigits(chars, 8, day, 2);
+  }
+
+  /**
+   * スレッドごとに保持する直前の日時文字列.
+   */
+  private static final class LastDateTime {
+
+    private static final long NONE = Long.MIN_VALUE;
+
+    private final char[] chars = new char[LENGTH_DATE_TIME];
+    private long epochDay = NONE;
+    private int secondOfDay = -1;
+
+    private char[] format(LocalDateTime dateTime) {
+      long day = dateTime.toLocalDate().toEpochDay();
+      int second = dateTime.toLocalTime().toSecondOfDay();
+      if (day == this.epochDay && second == this.secondOfDay) {
+        return this.chars;
+      }
+      if (day != this.epochDay) {
+        writeDate(this.chars, dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+        this.chars[LENGTH_DATE] = ' ';
+        this.epochDay = day;
+      }
+      BasicDateFormat.writeDigits(this.chars, 11, dateTime.getHour(), 2);
+      this.chars[13] = ':';
+      BasicDateFormat.writeDigits(this.chars, 14, dateTime.getMinute(), 2);
+      this.chars[16] = ':';
+      BasicDateFormat.writeDigits(this.chars, 17, dateTime.getSecond(), 2);
+      this.secondOfDay = second;
+      return this.chars;
+    }
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ *  日付と日時を扱うユーティリティを扱います.
+ */
+package org.verneermlab.base.utils.time;
@@ -0,0 +1,86 @@
+package org.verneermlab.apps.common.domain.part.text;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class CompactTextTest {
+
+  public CompactTextTest() {
+  }
+
+  @Test
+  public void testRawValue() {
+    for (var value : List.of("", "ABC-001", "Café", "🍀𩸽飴", "ｶﾞ")) {
+      var text = CompactText.of(value);
+      assertEquals(value, text.rawValue());
+      assertEquals(value, text.toString());
+      assertEquals(Text.of(value).length(), text.length());
+      assertEquals(Text.of(value), text.toText());
+    }
+    assertNull(CompactText.createNoValue().rawValue());
+    assertNull(CompactText.of(null).rawValue());
+    assertEquals(0, CompactText.createNoValue().length());
+  }
+
+  @Test
+  public void testRawValue_UnpairedSurrogate() {
+    for (var value : List.of("a\uD842", "\uDFB7b", "\uDFB7\uD842", "飴\uD842")) {
+      var text = CompactText.of(value);
+      assertEquals(value, text.rawValue());
+      assertEquals(value.hashCode(), text.rawValue().hashCode());
+      assertEquals(CompactText.of(text.rawValue()), text);
+      assertEquals(CompactText.of(text.rawValue()).hashCode(), text.hashCode());
+    }
+  }
+
+  @Test
+  public void testGraphemeIndex() {
+    var text = CompactText.of("🍀𩸽飴");
+    assertSame(text.graphemeIndex(), text.graphemeIndex());
+    assertEquals(3, text.graphemeIndex().length());
+    assertEquals(0, CompactText.createNoValue().graphemeIndex().length());
+  }
+
+  @Test
+  public void testEquals() {
+    assertEquals(CompactText.of("abc"), CompactText.of("abc"));
+    assertEquals(CompactText.of("abc").hashCode(), CompactText.of("abc").hashCode());
+    assertEquals(CompactText.of("飴"), CompactText.of("飴"));
+    assertNotEquals(CompactText.of("abc"), CompactText.of("abd"));
+    assertNotEquals(CompactText.of(""), CompactText.createNoValue());
+    assertEquals(CompactText.createNoValue(), CompactText.of(null));
+  }
+
+  @Test
+  public void testIsEmpty() {
+    assertTrue(CompactText.createNoValue().isEmpty());
+    assertTrue(CompactText.of("").isEmpty());
+    assertFalse(CompactText.of("a").isEmpty());
+  }
+
+  @Test
+  public void testBehavior() {
+    assertEquals(CompactText.of("000ab"), CompactText.of("ab").zeroPadding(5));
+    assertEquals(CompactText.of("ab"), CompactText.of("a\r\nb").removeReturn());
+    assertEquals(CompactText.of("𩸽飴"), CompactText.of("🍀𩸽飴").substring(1));
+    assertEquals(CompactText.of("a-b"), CompactText.of("a").join(CompactText.of("-"), CompactText.of("b")));
+    assertEquals(CompactText.of("AB"), CompactText.of("ab").apply(String::toUpperCase));
+  }
+
+  @Test
+  public void testSerialize() throws Exception {
+    var text = CompactText.of("飴abc");
+    var out = new ByteArrayOutputStream();
+    try (var stream = new ObjectOutputStream(out)) {
+      stream.writeObject(text);
+    }
+    try (var stream = new ObjectInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals(text, stream.readObject());
+    }
+  }
+}
@@ -75,4 +75,11 @@ public class NotEmptyTextTest {
     obj.substring(-1);
     assertEquals("1", obj.toString());
   }
+
+  @Test
+  public void testOfInterned() {
+    var text = NotEmptyText.ofInterned("東京都");
+    assertSame(text, NotEmptyText.ofInterned(new String("東京都")));
+    assertThrows(NullPointerException.class, () -> NotEmptyText.ofInterned(null));
+  }
 }
@@ -1,9 +1,12 @@
 package org.verneermlab.apps.common.domain.part.text;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
+import org.verneermlab.base.domain.type.text.behavior.TextRemoveReturn;
+import org.verneermlab.base.domain.type.text.behavior.TextZeroPadding;
 
 public class TextTest {
 
@@ -50,6 +53,19 @@ public class TextTest {
 
     var text2 = Text.createNoValue().zeroPadding(5);
     assertEquals("00000", text2.getOrDefault());
+
+    var text3 = Text.of("a b").zeroPadding(5);
+    assertEquals("00a b", text3.getOrDefault());
+
+    var text4 = Text.of("abcde");
+    assertSame(text4, text4.zeroPadding(5));
+    assertSame(text4, text4.zeroPadding(3));
+  }
+
+  @Test
+  public void testPadZeroAll() {
+    var actual = TextZeroPadding.zeroPaddingAll(List.of(Text.of("1"), Text.of("12345"), Text.createNoValue()), 3);
+    assertEquals(List.of(Text.of("001"), Text.of("12345"), Text.of("000")), actual);
   }
 
   @Test
@@ -71,6 +87,21 @@ public class TextTest {
   public void testJoin() {
     var text1 = Text.of("aa").join(Text.of("-"), Text.of("bb"), Text.of("cc"));
     assertEquals("aa-bb-cc", text1.getOrDefault());
+
+    var text2 = Text.createNoValue().join(null, Text.of("bb"), Text.createNoValue());
+    assertEquals("bb", text2.getOrDefault());
+  }
+
+  @Test
+  public void testJoinAll() {
+    var text1 = Text.of("aa").joinAll(Text.of("-"), List.of(Text.of("bb"), Text.of("cc")));
+    assertEquals("aa-bb-cc", text1.getOrDefault());
+
+    var text2 = Text.of("aa").joinAll(Text.of("-"), List.of());
+    assertEquals("aa", text2.getOrDefault());
+
+    var text3 = Text.of("aa").concatAll(List.of(Text.of("bb"), Text.createNoValue(), Text.of("cc")));
+    assertEquals("aabbcc", text3.getOrDefault());
   }
 
   @Test
@@ -201,4 +232,46 @@ public class TextTest {
     assertNotEquals(obj, null);
     assertNotEquals(obj, "");
   }
+
+  @Test
+  public void testRawValue() {
+    assertNull(Text.of(null).rawValue());
+    assertEquals("testStr", Text.of("testStr").rawValue());
+  }
+
+  @Test
+  public void testGraphemeIndexCached() {
+    var text = Text.of("🍀𩸽飴");
+    assertSame(text.graphemeIndex(), text.graphemeIndex());
+    assertEquals(3, text.length());
+    assertEquals("𩸽", text.substring(1, 2).getOrDefault());
+    assertEquals(0, Text.of(null).length());
+  }
+
+  @Test
+  public void testRemoveReturn_SameAsReplaceAll() {
+    var values = List.of("", "abc", "\n", "\r", "\r\n", "a\r\nb\nc\rd", "\n\nab\r\r\n", "ab\r", "\r\r\n\n\r");
+    for (var value : values) {
+      assertEquals(value.replaceAll("\\r\\n|\\n", ""), Text.of(value).removeReturn().getOrDefault(), value);
+    }
+    var noReturn = Text.of("abc");
+    assertSame(noReturn, noReturn.removeReturn());
+  }
+
+  @Test
+  public void testRemoveReturnAll() {
+    var noReturn = Text.of("abc");
+    var actual = TextRemoveReturn.removeReturnAll(List.of(noReturn, Text.of("a\r\nb"), Text.createNoValue(), Text.of("\nc")));
+    assertEquals(List.of(noReturn, Text.of("ab"), Text.createNoValue(), Text.of("c")), actual);
+    assertSame(noReturn, actual.get(0));
+  }
+
+  @Test
+  public void testOfInterned() {
+    var text = Text.ofInterned("東京都");
+    assertSame(text, Text.ofInterned(new String("東京都")));
+    assertEquals(Text.of("東京都"), text);
+    assertTrue(Text.internStatistics().hitCount() > 0);
+    assertEquals(Text.createNoValue(), Text.ofInterned(null));
+  }
 }
@@ -0,0 +1,127 @@
+package org.verneermlab.apps.common.domain.part.time;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class DateVectorTest {
+
+  @Test
+  public void testOf() {
+    var dates = List.of(GenericDate.of(LocalDate.of(2024, 1, 1)), GenericDate.of(null),
+            GenericDate.of(LocalDate.of(1960, 2, 29)));
+    var vector = DateVector.of(dates);
+    assertEquals(3, vector.size());
+    assertEquals(dates, vector.toList());
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+  }
+
+  @Test
+  public void testRange() {
+    var start = DateVector.builder(0).add(LocalDate.of(2024, 1, 31)).addNull().add(LocalDate.of(2024, 1, 1)).build();
+    var end = DateVector.builder(0).add(LocalDate.of(2025, 3, 1)).add(LocalDate.of(2024, 1, 1)).addNull().build();
+    var days = start.rangeDays(end);
+    assertEquals(395L, days.get(0));
+    assertFalse(days.isNull(0));
+    assertTrue(days.isNull(1));
+    assertTrue(days.isNull(2));
+    assertArrayEquals(new long[]{395L, 0L, 0L}, days.toLongArray());
+    assertArrayEquals(new int[]{13, 0, 0}, start.rangeMonths(end).toIntArray());
+    assertArrayEquals(new int[]{1, 0, 0}, start.rangeYears(end).toIntArray());
+  }
+
+  @Test
+  public void testRange_SameAsGenericDate() {
+    // 並列に計算する要素数で確認します.
+    var random = new Random(1L);
+    var starts = new ArrayList<GenericDate>();
+    var ends = new ArrayList<GenericDate>();
+    for (int i = 0; i < 70_000; i++) {
+      starts.add(random.nextInt(10) == 0 ? GenericDate.of(null) : GenericDate.ofEpochDay(random.nextInt(40_000) - 20_000));
+      ends.add(random.nextInt(10) == 0 ? GenericDate.of(null) : GenericDate.ofEpochDay(random.nextInt(40_000) - 20_000));
+    }
+    var start = DateVector.of(starts);
+    var end = DateVector.of(ends);
+    var days = start.rangeDays(end);
+    var months = start.rangeMonths(end);
+    var years = start.rangeYears(end);
+    for (int i = 0; i < starts.size(); i++) {
+      boolean empty = starts.get(i).isEmpty() || ends.get(i).isEmpty();
+      assertEquals(empty, days.isNull(i));
+      assertEquals(empty, months.isNull(i));
+      assertEquals(empty, years.isNull(i));
+      assertEquals(starts.get(i).rangeDays(ends.get(i)), days.get(i));
+      assertEquals(starts.get(i).rangeMonths(ends.get(i)), months.get(i));
+      assertEquals(starts.get(i).rangeYears(ends.get(i)), years.get(i));
+    }
+  }
+
+  @Test
+  public void testOfEpochDays_SameAsGenericDate() {
+    var random = new Random(2L);
+    int size = 70_001;
+    var startDays = new int[size];
+    var endDays = new int[size];
+    var startNulls = new long[(size + 63) >>> 6];
+    var endNulls = new long[(size + 63) >>> 6];
+    var endBuilder = DateVector.builder(size);
+    for (int i = 0; i < size; i++) {
+      startDays[i] = random.nextInt(40_000) - 20_000;
+      endDays[i] = random.nextInt(40_000) - 20_000;
+      if (random.nextInt(10) == 0) {
+        startNulls[i >>> 6] |= 1L << i;
+        // 値を保持しない要素の値は使用しません.
+        startDays[i] = Integer.MIN_VALUE;
+      }
+      if (random.nextInt(10) == 0) {
+        endNulls[i >>> 6] |= 1L << i;
+        endBuilder.addNull();
+      } else {
+        endBuilder.addEpochDay(endDays[i]);
+      }
+    }
+    var start = DateVector.ofEpochDays(startDays, startNulls);
+    var end = DateVector.ofEpochDays(endDays, endNulls);
+    assertEquals(end.toList(), endBuilder.build().toList());
+    var days = start.rangeDays(end);
+    var months = start.rangeMonths(end);
+    var years = start.rangeYears(end);
+    for (int i = 0; i < size; i++) {
+      var startDate = start.get(i);
+      var endDate = end.get(i);
+      assertEquals((startNulls[i >>> 6] & (1L << i)) != 0, startDate.isEmpty());
+      if (!startDate.isEmpty()) {
+        assertEquals(GenericDate.ofEpochDay(startDays[i]), startDate);
+      }
+      assertEquals(startDate.isEmpty() || endDate.isEmpty(), days.isNull(i));
+      assertEquals(startDate.rangeDays(endDate), days.get(i));
+      assertEquals(startDate.rangeMonths(endDate), months.get(i));
+      assertEquals(startDate.rangeYears(endDate), years.get(i));
+    }
+  }
+
+  @Test
+  public void testOfEpochDays_Invalid() {
+    assertThrows(IllegalArgumentException.class, () -> DateVector.ofEpochDays(new int[65], new long[1]));
+    assertThrows(IllegalArgumentException.class, () -> DateVector.ofEpochDays(new int[0], new long[1]));
+    assertThrows(DateTimeException.class, () -> DateVector.ofEpochDays(new int[]{Integer.MIN_VALUE}, new long[1]));
+    assertThrows(DateTimeException.class, () -> DateVector.builder(1).addEpochDay(Integer.MIN_VALUE));
+    assertEquals(0, DateVector.ofEpochDays(new int[0], new long[0]).size());
+
+    // 要素数を超える位置のビットは使用しません.
+    var vector = DateVector.ofEpochDays(new int[]{1}, new long[]{-2L});
+    assertEquals(GenericDate.ofEpochDay(1), vector.get(0));
+    assertFalse(vector.rangeDays(vector).isNull(0));
+  }
+
+  @Test
+  public void testRange_DifferentSize() {
+    var start = DateVector.builder(1).addNull().build();
+    var end = DateVector.builder(1).build();
+    assertThrows(IllegalArgumentException.class, () -> start.rangeDays(end));
+  }
+}
@@ -1,7 +1,9 @@
 package org.verneermlab.apps.common.domain.part.time;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
 import java.util.Optional;
+import java.util.OptionalLong;
 import org.junit.jupiter.api.Assertions;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -53,4 +55,66 @@ public class GenericDateTest {
     Assertions.assertEquals("null", GenericDate.of(null).toString());
   }
 
+  @Test
+  public void testRawValue() {
+    Assertions.assertNull(GenericDate.of(null).rawValue());
+    assertEquals(LocalDate.of(2024, 1, 1), GenericDate.of(LocalDate.of(2024, 1, 1)).rawValue());
+  }
+
+  @Test
+  public void testEpochDay() {
+    var date = GenericDate.ofEpochDay(19723L);
+    assertEquals(GenericDate.of(LocalDate.of(2024, 1, 1)), date);
+    assertEquals(OptionalLong.of(19723L), date.toEpochDay());
+    assertEquals(OptionalLong.empty(), GenericDate.of(null).toEpochDay());
+    assertEquals(LocalDate.of(-1004, 2, 29), GenericDate.of(LocalDate.of(-1004, 2, 29)).rawValue());
+    Assertions.assertThrows(DateTimeException.class, () -> GenericDate.of(LocalDate.MAX));
+    Assertions.assertThrows(DateTimeException.class, () -> GenericDate.ofEpochDay(Integer.MIN_VALUE));
+  }
+
+  @Test
+  public void testCompare() {
+    var empty = GenericDate.of(null);
+    var date1 = GenericDate.of(LocalDate.of(2024, 1, 1));
+    var date2 = GenericDate.of(LocalDate.of(2024, 1, 2));
+    Assertions.assertTrue(empty.eq(GenericDate.of(null)));
+    Assertions.assertTrue(empty.lt(date1));
+    Assertions.assertTrue(date1.gt(empty));
+    Assertions.assertTrue(date1.lt(date2));
+    Assertions.assertTrue(date1.le(date1));
+    Assertions.assertTrue(date2.ge(date1));
+    Assertions.assertTrue(date2.ne(date1));
+    Assertions.assertFalse(empty.gt(empty));
+  }
+
+  @Test
+  public void testRangeDays() {
+    var date1 = GenericDate.of(LocalDate.of(2024, 1, 1));
+    var date2 = GenericDate.of(LocalDate.of(2024, 3, 1));
+    assertEquals(60L, date1.rangeDays(date2));
+    assertEquals(-60L, date2.rangeDays(date1));
+    assertEquals(0L, date1.rangeDays(GenericDate.of(null)));
+    assertEquals(Optional.of("60"), date1.rangeDays(date2, String::valueOf));
+    assertEquals(Optional.empty(), GenericDate.of(null).rangeDays(date2, String::valueOf));
+    assertEquals("-", GenericDate.of(null).rangeDays(date2, () -> "-", String::valueOf));
+    assertEquals("60", date1.rangeDays(date2, () -> "-", String::valueOf));
+  }
+
+  @Test
+  public void testTryFromYyyyMmDd() {
+    assertEquals(Optional.of(GenericDate.of(LocalDate.of(2024, 2, 29))), GenericDate.tryFromYyyyMmDd("20240229"));
+    assertEquals(Optional.of(GenericDate.of(null)), GenericDate.tryFromYyyyMmDd(""));
+    assertEquals(Optional.empty(), GenericDate.tryFromYyyyMmDd(null));
+    assertEquals(Optional.empty(), GenericDate.tryFromYyyyMmDd("2024/01/01"));
+    assertEquals(Optional.empty(), GenericDate.tryFromYyyyMmDd("20241301"));
+    Assertions.assertThrows(DateTimeException.class, () -> GenericDate.fromYyyyMmDd("20241301"));
+  }
+
+  @Test
+  public void testFormatYyyyMmDdTo() {
+    var builder = new StringBuilder("date=");
+    GenericDate.of(LocalDate.of(2024, 1, 2)).formatYyyyMmDdTo(builder);
+    GenericDate.of(null).formatYyyyMmDdTo(builder);
+    assertEquals("date=20240102", builder.toString());
+  }
 }
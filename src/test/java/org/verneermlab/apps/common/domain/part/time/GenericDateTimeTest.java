@@ -51,4 +51,12 @@ public class GenericDateTimeTest {
     Assertions.assertEquals("null", GenericDateTime.of(null).toString());
   }
 
+  @Test
+  public void testFormatYyyyMmDdHhMmSsTo() {
+    var builder = new StringBuilder();
+    GenericDateTime.of(LocalDateTime.of(2024, 1, 1, 1, 2, 3, 4)).formatYyyyMmDdHhMmSsTo(builder).append(',');
+    GenericDateTime.of(null).formatYyyyMmDdHhMmSsTo(builder).append(',');
+    GenericDateTime.of(LocalDateTime.of(2024, 1, 1, 1, 2, 3, 5)).formatYyyyMmDdHhMmSsTo(builder);
+    Assertions.assertEquals("2024/01/01 01:02:03,,2024/01/01 01:02:03", builder.toString());
+  }
 }
@@ -0,0 +1,51 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class FixedPointTest {
+
+  private static final FixedPoint<Long> fixedPoint = new FixedPoint<>(value -> value != null, value -> value, value -> value);
+
+  private static final Long FALLBACK = -1L;
+
+  @Test
+  public void testIsCompact() {
+    assertTrue(FixedPoint.isCompact(new BigDecimal("999999999999999999")));
+    assertFalse(FixedPoint.isCompact(new BigDecimal("9999999999999999999")));
+  }
+
+  @Test
+  public void testPlus() {
+    assertEquals(6L, fixedPoint.plus(1L, List.of(2L, 3L), () -> FALLBACK));
+    assertEquals(1L, fixedPoint.plus(1L, List.of(), () -> FALLBACK));
+  }
+
+  @Test
+  public void testPlus_Fallback() {
+    assertEquals(FALLBACK, fixedPoint.plus(null, List.of(1L), () -> FALLBACK));
+    assertEquals(FALLBACK, fixedPoint.plus(Long.MAX_VALUE, List.of(1L), () -> FALLBACK));
+    var others = new ArrayList<Long>();
+    others.add(1L);
+    others.add(null);
+    assertEquals(FALLBACK, fixedPoint.plus(1L, others, () -> FALLBACK));
+  }
+
+  @Test
+  public void testMinus() {
+    assertEquals(-4L, fixedPoint.minus(1L, List.of(2L, 3L), () -> FALLBACK));
+    assertEquals(FALLBACK, fixedPoint.minus(Long.MIN_VALUE, List.of(1L), () -> FALLBACK));
+  }
+
+  @Test
+  public void testMultiply() {
+    assertEquals(6L, fixedPoint.multiply(2L, 3, () -> FALLBACK));
+    assertEquals(6L, fixedPoint.multiply(2L, 3L, () -> FALLBACK));
+    assertEquals(FALLBACK, fixedPoint.multiply(2L, 3.0, () -> FALLBACK));
+    assertEquals(FALLBACK, fixedPoint.multiply(2L, BigDecimal.ONE, () -> FALLBACK));
+    assertEquals(FALLBACK, fixedPoint.multiply(Long.MAX_VALUE, 2, () -> FALLBACK));
+  }
+}
@@ -1,6 +1,7 @@
 package org.verneermlab.apps.common.domain.part.unit;
 
 import java.math.BigDecimal;
+import java.util.List;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
 import org.verneermlab.apps.common.domain.part.numeric.NullableNumber;
@@ -89,6 +90,49 @@ public class PriceTest {
 
   }
 
+  @Test
+  public void testPlusMinus_LongBacked() {
+    var value1 = Price.of("100");
+    var value2 = Price.of("20");
+    var empty = Price.of((BigDecimal) null);
+
+    assertEquals(Price.of("120"), value1.plus(value2));
+    assertEquals(Price.of("140"), value1.plus(value2, value2));
+    assertEquals(Price.of("140"), value1.plusAll(List.of(value2, value2, empty)));
+    assertEquals(Price.of("80"), value1.minus(value2));
+    assertEquals(Price.of("60"), value1.minus(value2, value2));
+    assertEquals("0", empty.plus(empty).toString());
+    assertEquals(Price.of("300"), value1.multiply(3));
+    assertEquals(Price.of("300"), value1.multiply(3L));
+  }
+
+  @Test
+  public void testPlusMinus_Overflow() {
+    var max = Price.of(new BigDecimal(Long.MAX_VALUE).movePointLeft(0).toPlainString());
+    var one = Price.of(1);
+    var expected = new BigDecimal(Long.MAX_VALUE).movePointLeft(0).add(BigDecimal.ONE);
+    assertEquals(expected, max.plus(one).getOrZero());
+    assertEquals(expected, max.plusAll(List.of(one)).getOrZero());
+    assertEquals(expected.add(BigDecimal.ONE), max.plus(one).plus(one).getOrZero());
+
+    var min = Price.of(new BigDecimal(Long.MIN_VALUE).movePointLeft(0).toPlainString());
+    assertEquals(new BigDecimal(Long.MIN_VALUE).movePointLeft(0).subtract(BigDecimal.ONE), min.minus(one).getOrZero());
+    assertEquals(new BigDecimal(Long.MAX_VALUE).movePointLeft(0).multiply(new BigDecimal(2)), max.multiply(2).getOrZero());
+  }
+
+  @Test
+  public void testPlusMinus_CompactOverflow() {
+    var nines = Price.of("999999999999999999");
+    var ninesDecimal = new BigDecimal("999999999999999999");
+    var expected = ninesDecimal.multiply(BigDecimal.TEN);
+
+    var sum = nines.plus(nines, nines, nines, nines, nines, nines, nines, nines, nines);
+    assertEquals(expected, sum.getOrZero());
+    assertEquals(expected, nines.plusAll(List.of(nines, nines, nines, nines, nines, nines, nines, nines, nines)).getOrZero());
+    assertEquals(expected, nines.multiply(10).getOrZero());
+    assertEquals(ninesDecimal.multiply(new BigDecimal(-9)), Price.of("0").minus(nines, nines, nines, nines, nines, nines, nines, nines, nines).getOrZero());
+  }
+
   @Test
   public void testIsEmpty() {
     Integer value1 = null;
@@ -137,4 +181,10 @@ public class PriceTest {
     assertNotEquals(obj, "");
   }
 
+  @Test
+  public void testRawValue() {
+    assertNull(Price.of((Number) null).rawValue());
+    assertEquals(Price.of(10).getNullableValue().get(), Price.of(10).rawValue());
+    assertEquals(new BigDecimal("30"), Price.of(10).plus(Price.of(20)).rawValue());
+  }
 }
@@ -0,0 +1,135 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class PriceVectorTest {
+
+  @Test
+  public void testOf() {
+    var vector = PriceVector.of(List.of(Price.of(100), Price.of((Number) null), Price.of("20.5")));
+    assertEquals(3, vector.size());
+    assertEquals(2, vector.count());
+    assertEquals(Price.of(100), vector.get(0));
+    assertTrue(vector.get(1).isEmpty());
+    assertEquals(Price.of(21), vector.get(2));
+    assertEquals(List.of(Price.of(100), Price.of((Number) null), Price.of(21)), vector.toList());
+    assertThrows(IndexOutOfBoundsException.class, () -> vector.get(3));
+  }
+
+  @Test
+  public void testOf_NotLongBacked() {
+    var price = Price.of("1234567890123456789012");
+    assertThrows(ArithmeticException.class, () -> PriceVector.of(List.of(price)));
+  }
+
+  @Test
+  public void testBuilder() {
+    var builder = PriceVector.builder(1);
+    for (int i = 1; i <= 100; i++) {
+      builder.add(i % 10 == 0 ? null : Integer.valueOf(i));
+    }
+    builder.add(1.5).add(Price.of(2L));
+    var vector = builder.build();
+    assertEquals(102, vector.size());
+    assertEquals(92, vector.count());
+    assertTrue(vector.get(69).isEmpty());
+    assertEquals(Price.of(2), vector.get(100));
+  }
+
+  @Test
+  public void testSum() {
+    var vector = PriceVector.of(List.of(Price.of(100), Price.of((Number) null), Price.of(-20)));
+    assertEquals(Price.of(80), vector.sum());
+    assertEquals(Price.of(0), PriceVector.builder(0).build().sum());
+
+    var nines = Price.of("999999999999999999");
+    var overflow = PriceVector.of(List.of(nines, nines, nines, nines, nines, nines, nines, nines, nines, nines));
+    assertEquals(new BigDecimal("9999999999999999990"), overflow.sum().getOrZero());
+  }
+
+  @Test
+  public void testMinMax() {
+    var vector = PriceVector.of(List.of(Price.of(100), Price.of((Number) null), Price.of(-20), Price.of(5)));
+    assertEquals(Price.of(-20), vector.min());
+    assertEquals(Price.of(100), vector.max());
+
+    var noNull = PriceVector.of(List.of(Price.of(3), Price.of(7)));
+    assertEquals(Price.of(3), noNull.min());
+    assertEquals(Price.of(7), noNull.max());
+
+    var empty = PriceVector.of(List.of(Price.of((Number) null)));
+    assertTrue(empty.min().isEmpty());
+    assertTrue(empty.max().isEmpty());
+  }
+
+  @Test
+  public void testMultiply_Scalar() {
+    var vector = PriceVector.of(List.of(Price.of(100), Price.of((Number) null))).multiply(3);
+    assertEquals(Price.of(300), vector.get(0));
+    assertTrue(vector.get(1).isEmpty());
+    assertEquals(Price.of(300), vector.sum());
+    assertThrows(ArithmeticException.class, () -> PriceVector.of(List.of(Price.of("999999999999999999"))).multiply(10));
+  }
+
+  @Test
+  public void testMultiply_Quantity() {
+    var prices = List.of(Price.of(20), Price.of(3), Price.of(-3), Price.of((Number) null), Price.of(7));
+    var quantities = List.of(Quantity.of("10.01"), Quantity.of("0.5"), Quantity.of("0.5"), Quantity.of(1),
+            Quantity.of((Number) null));
+    var amounts = PriceVector.of(prices).multiply(QuantityVector.of(quantities));
+
+    for (int i = 0; i < 3; i++) {
+      var expected = prices.get(i).multiply(quantities.get(i)).getOrZero();
+      assertEquals(expected, amounts.get(i).getOrZero());
+    }
+    assertEquals("200", amounts.get(0).toString());
+    assertEquals("2", amounts.get(1).toString());
+    assertEquals("-2", amounts.get(2).toString());
+    assertTrue(amounts.get(3).isEmpty());
+    assertTrue(amounts.get(4).isEmpty());
+    assertEquals(3, amounts.count());
+
+    var shorter = QuantityVector.of(List.of(Quantity.of(1)));
+    assertThrows(IllegalArgumentException.class, () -> PriceVector.of(prices).multiply(shorter));
+  }
+
+  @Test
+  public void testSumAmount() {
+    var prices = PriceVector.of(List.of(Price.of(20), Price.of(3), Price.of(-3), Price.of((Number) null)));
+    var quantities = QuantityVector.of(List.of(Quantity.of("10.01"), Quantity.of("0.5"), Quantity.of("0.5"),
+            Quantity.of(1)));
+    assertEquals(prices.multiply(quantities).sum(), prices.sumAmount(quantities));
+    assertEquals(Price.of(200), prices.sumAmount(quantities));
+
+    var large = PriceVector.of(List.of(Price.of("999999999999999999"), Price.of("999999999999999999")));
+    var ten = QuantityVector.of(List.of(Quantity.of(10), Quantity.of(1)));
+    assertEquals(new BigDecimal("10999999999999999989"), large.sumAmount(ten).getOrZero());
+  }
+
+  @Test
+  public void testAggregate_ManyElements() {
+    var builder = PriceVector.builder(16);
+    var expectedSum = BigDecimal.ZERO;
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = 0; i < 1000; i++) {
+      if (i % 7 == 3) {
+        builder.add((Number) null);
+        continue;
+      }
+      long value = (i * 7919L % 2003L - 1000L) * 1000000000000L;
+      builder.add(value);
+      expectedSum = expectedSum.add(BigDecimal.valueOf(value));
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+    }
+    var vector = builder.build();
+    assertEquals(expectedSum, vector.sum().getOrZero());
+    assertEquals(Price.of(min), vector.min());
+    assertEquals(Price.of(max), vector.max());
+  }
+
+}
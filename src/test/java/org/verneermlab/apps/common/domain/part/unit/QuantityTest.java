@@ -1,6 +1,7 @@
 package org.verneermlab.apps.common.domain.part.unit;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.math.RoundingMode;
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Test;
@@ -132,6 +133,49 @@ public class QuantityTest {
     assertEquals(Percentage.of(40), actual);
   }
 
+  @Test
+  public void testPlusMinus_LongBacked() {
+    var value1 = Quantity.of("100");
+    var value2 = Quantity.of("20");
+    var empty = Quantity.of((BigDecimal) null);
+
+    assertEquals(Quantity.of("120"), value1.plus(value2));
+    assertEquals(Quantity.of("140"), value1.plus(value2, value2));
+    assertEquals(Quantity.of("140"), value1.plusAll(List.of(value2, value2, empty)));
+    assertEquals(Quantity.of("80"), value1.minus(value2));
+    assertEquals(Quantity.of("60"), value1.minus(value2, value2));
+    assertEquals("0.00", empty.plus(empty).toString());
+    assertEquals(Quantity.of("300"), value1.multiply(3));
+    assertEquals(Quantity.of("300"), value1.multiply(3L));
+  }
+
+  @Test
+  public void testPlusMinus_Overflow() {
+    var max = Quantity.of(new BigDecimal(Long.MAX_VALUE).movePointLeft(2).toPlainString());
+    var one = Quantity.of(1);
+    var expected = new BigDecimal(Long.MAX_VALUE).movePointLeft(2).add(BigDecimal.ONE);
+    assertEquals(expected, max.plus(one).getOrZero());
+    assertEquals(expected, max.plusAll(List.of(one)).getOrZero());
+    assertEquals(expected.add(BigDecimal.ONE), max.plus(one).plus(one).getOrZero());
+
+    var min = Quantity.of(new BigDecimal(Long.MIN_VALUE).movePointLeft(2).toPlainString());
+    assertEquals(new BigDecimal(Long.MIN_VALUE).movePointLeft(2).subtract(BigDecimal.ONE), min.minus(one).getOrZero());
+    assertEquals(new BigDecimal(Long.MAX_VALUE).movePointLeft(2).multiply(new BigDecimal(2)), max.multiply(2).getOrZero());
+  }
+
+  @Test
+  public void testPlusMinus_CompactOverflow() {
+    var nines = Quantity.of("9999999999999999.99");
+    var ninesDecimal = new BigDecimal("9999999999999999.99");
+    var expected = ninesDecimal.multiply(BigDecimal.TEN);
+
+    var sum = nines.plus(nines, nines, nines, nines, nines, nines, nines, nines, nines);
+    assertEquals(expected, sum.getOrZero());
+    assertEquals(expected, nines.plusAll(List.of(nines, nines, nines, nines, nines, nines, nines, nines, nines)).getOrZero());
+    assertEquals(expected, nines.multiply(10).getOrZero());
+    assertEquals(ninesDecimal.multiply(new BigDecimal(-9)), Quantity.of("0").minus(nines, nines, nines, nines, nines, nines, nines, nines, nines).getOrZero());
+  }
+
   @Test
   public void testIsEmpty() {
     Integer value1 = null;
@@ -181,4 +225,13 @@ public class QuantityTest {
     assertNotEquals(obj, null);
     assertNotEquals(obj, "");
   }
+
+  @Test
+  public void testFormatTo() {
+    var builder = new StringBuilder("qty=");
+    Quantity.of("-1234.5").formatTo(builder);
+    assertEquals("qty=-1,234.50", builder.toString());
+    assertEquals("0.00", Quantity.of((Number) null).toFormatted());
+    assertEquals("12,345,678,901,234,567,890.00", Quantity.of("12345678901234567890").toFormatted());
+  }
 }
@@ -0,0 +1,43 @@
+package org.verneermlab.apps.common.domain.part.unit;
+
+import java.math.BigDecimal;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class QuantityVectorTest {
+
+  @Test
+  public void testOf() {
+    var vector = QuantityVector.of(List.of(Quantity.of("1.25"), Quantity.of((Number) null), Quantity.of("0.005")));
+    assertEquals(3, vector.size());
+    assertEquals(2, vector.count());
+    assertEquals(Quantity.of("1.25"), vector.get(0));
+    assertTrue(vector.get(1).isEmpty());
+    assertEquals("0.01", vector.get(2).toString());
+  }
+
+  @Test
+  public void testBuilder() {
+    var vector = QuantityVector.builder(2).add(3).add(4L).add(1.5).add((Number) null).build();
+    assertEquals("3.00", vector.get(0).toString());
+    assertEquals("4.00", vector.get(1).toString());
+    assertEquals("1.50", vector.get(2).toString());
+    assertTrue(vector.get(3).isEmpty());
+    assertThrows(ArithmeticException.class, () -> QuantityVector.builder(1).add(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void testAggregate() {
+    var vector = QuantityVector.of(List.of(Quantity.of("1.25"), Quantity.of((Number) null), Quantity.of("-0.5")));
+    assertEquals(Quantity.of("0.75"), vector.sum());
+    assertEquals(Quantity.of("-0.5"), vector.min());
+    assertEquals(Quantity.of("1.25"), vector.max());
+    assertEquals(Quantity.of("3.75"), vector.multiply(3).get(0));
+
+    var nines = Quantity.of("9999999999999999.99");
+    var overflow = QuantityVector.of(List.of(nines, nines, nines, nines, nines, nines, nines, nines, nines, nines));
+    assertEquals(new BigDecimal("99999999999999999.90"), overflow.sum().getOrZero());
+  }
+
+}
@@ -0,0 +1,70 @@
+package org.verneermlab.base.domain.type.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DateTimeZoneTest {
+
+  private static final List<ZoneId> ZONES = List.of(ZoneId.of("Asia/Tokyo"), ZoneId.of("America/New_York"),
+          ZoneId.of("Europe/London"), ZoneId.of("America/Sao_Paulo"), ZoneId.of("Australia/Lord_Howe"),
+          ZoneOffset.UTC, ZoneOffset.ofHours(9), ZoneId.of("UTC"));
+
+  @Test
+  public void testGetDefault() {
+    Assertions.assertEquals(ZoneId.of("Asia/Tokyo"), DateTimeZone.getDefault().getZoneId());
+    Assertions.assertSame(DateTimeZone.getDefault(), DateTimeZone.of(ZoneId.of("Asia/Tokyo")));
+  }
+
+  @Test
+  public void testOf_Shared() {
+    Assertions.assertSame(DateTimeZone.of(ZoneId.of("America/New_York")), DateTimeZone.of(ZoneId.of("America/New_York")));
+    Assertions.assertSame(DateTimeZone.of(ZoneOffset.ofHours(9)), DateTimeZone.of(ZoneOffset.ofHours(9)));
+  }
+
+  @Test
+  public void testSetDefault() {
+    try {
+      DateTimeZone.setDefault(ZoneOffset.UTC);
+      Assertions.assertEquals(ZoneOffset.UTC, new NullableDateTypeTest.NullableDateTypeImpl(null).getZoneId());
+      var date = new NullableDateTypeTest.NullableDateTypeImpl(LocalDate.of(2024, 3, 1));
+      Assertions.assertEquals(1709251200L, date.toUnixTime().get());
+    } finally {
+      DateTimeZone.setDefault(ZoneId.of("Asia/Tokyo"));
+    }
+  }
+
+  @Test
+  public void testToEpochSecond_SameAsZonedDateTime() {
+    for (var zoneId : ZONES) {
+      var zone = DateTimeZone.of(zoneId);
+      // 夏時間の切り替え（欠落と重複）を含むよう、30分刻みで確認します.
+      for (var dateTime = LocalDateTime.of(1945, 1, 1, 0, 0); dateTime.getYear() < 1953;
+              dateTime = dateTime.plusMinutes(30)) {
+        Assertions.assertEquals(ZonedDateTime.of(dateTime, zoneId).toEpochSecond(), zone.toEpochSecond(dateTime),
+                zoneId + " " + dateTime);
+      }
+      for (var dateTime = LocalDateTime.of(2023, 1, 1, 0, 0); dateTime.getYear() < 2025;
+              dateTime = dateTime.plusMinutes(30)) {
+        Assertions.assertEquals(ZonedDateTime.of(dateTime, zoneId).toEpochSecond(), zone.toEpochSecond(dateTime),
+                zoneId + " " + dateTime);
+      }
+    }
+  }
+
+  @Test
+  public void testAtStartOfDay_SameAsZonedDateTime() {
+    for (var zoneId : ZONES) {
+      var zone = DateTimeZone.of(zoneId);
+      for (var date = LocalDate.of(1945, 1, 1); date.getYear() < 2025; date = date.plusDays(1)) {
+        Assertions.assertEquals(date.atStartOfDay(zoneId).toLocalDateTime(), zone.atStartOfDay(date),
+                zoneId + " " + date);
+      }
+    }
+  }
+}
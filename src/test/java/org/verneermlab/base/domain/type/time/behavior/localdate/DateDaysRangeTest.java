@@ -50,6 +50,21 @@ public class DateDaysRangeTest {
     Assertions.assertEquals(new Days(0), before.rangeDays(nullImpl, () -> new Days(0), Days::new));
   }
 
+  @Test
+  public void testRangeDaysAsLong() {
+    var before = new DateDaysRangeImpl(LocalDate.of(2024, Month.MARCH, 1));
+    var after = new DateDaysRangeImpl(LocalDate.of(2024, Month.APRIL, 10));
+    var nullImpl = new DateDaysRangeImpl(null);
+
+    Assertions.assertEquals(40L, before.rangeDaysAsLong(after));
+    Assertions.assertEquals(-40L, after.rangeDaysAsLong(before));
+    Assertions.assertEquals(0L, nullImpl.rangeDaysAsLong(after));
+    Assertions.assertEquals(Optional.of("40"), before.rangeDaysAsLong(after, String::valueOf));
+    Assertions.assertEquals(Optional.empty(), nullImpl.rangeDaysAsLong(after, String::valueOf));
+    Assertions.assertEquals("-40", after.rangeDaysAsLong(before, () -> "-", String::valueOf));
+    Assertions.assertEquals("-", before.rangeDaysAsLong(nullImpl, () -> "-", String::valueOf));
+  }
+
   public static class DateDaysRangeImpl implements DateDaysRange<DateDaysRangeImpl> {
 
     private final LocalDate value;
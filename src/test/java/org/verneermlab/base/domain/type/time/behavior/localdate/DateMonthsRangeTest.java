@@ -157,6 +157,21 @@ public class DateMonthsRangeTest {
     Assertions.assertEquals(new Month2(BigDecimal.ZERO), actual.rangeMonthsHalfUp(nullImpl, () -> new Month2(BigDecimal.ZERO), Month2::new));
   }
 
+  @Test
+  public void testRangeMonthsAsLong() {
+    var before = new DateMonthsRangeImpl(LocalDate.of(2024, Month.MARCH, 1));
+    var after = new DateMonthsRangeImpl(LocalDate.of(2024, Month.APRIL, 10));
+    var nullImpl = new DateMonthsRangeImpl(null);
+
+    Assertions.assertEquals(1L, before.rangeMonthsAsLong(after));
+    Assertions.assertEquals(-1L, after.rangeMonthsAsLong(before));
+    Assertions.assertEquals(0L, nullImpl.rangeMonthsAsLong(after));
+    Assertions.assertEquals(Optional.of("1"), before.rangeMonthsAsLong(after, String::valueOf));
+    Assertions.assertEquals(Optional.empty(), nullImpl.rangeMonthsAsLong(after, String::valueOf));
+    Assertions.assertEquals("-1", after.rangeMonthsAsLong(before, () -> "-", String::valueOf));
+    Assertions.assertEquals("-", before.rangeMonthsAsLong(nullImpl, () -> "-", String::valueOf));
+  }
+
   public static class DateMonthsRangeImpl implements DateMonthsRange<DateMonthsRangeImpl> {
 
     private final LocalDate value;
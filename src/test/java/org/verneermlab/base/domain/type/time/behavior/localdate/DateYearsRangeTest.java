@@ -48,6 +48,21 @@ public class DateYearsRangeTest {
     Assertions.assertEquals(new Years(0), before.rangeYears(nullImpl, () -> new Years(0), Years::new));
   }
 
+  @Test
+  public void testRangeYearsAsInt() {
+    var before = new DateYearsRangeImpl(LocalDate.of(2024, Month.MARCH, 1));
+    var after = new DateYearsRangeImpl(LocalDate.of(2026, Month.APRIL, 10));
+    var nullImpl = new DateYearsRangeImpl(null);
+
+    Assertions.assertEquals(2, before.rangeYearsAsInt(after));
+    Assertions.assertEquals(-2, after.rangeYearsAsInt(before));
+    Assertions.assertEquals(0, nullImpl.rangeYearsAsInt(after));
+    Assertions.assertEquals(Optional.of("2"), before.rangeYearsAsInt(after, String::valueOf));
+    Assertions.assertEquals(Optional.empty(), nullImpl.rangeYearsAsInt(after, String::valueOf));
+    Assertions.assertEquals("-2", after.rangeYearsAsInt(before, () -> "-", String::valueOf));
+    Assertions.assertEquals("-", before.rangeYearsAsInt(nullImpl, () -> "-", String::valueOf));
+  }
+
   public static class DateYearsRangeImpl implements DateYearsRange<DateYearsRangeImpl> {
 
     private final LocalDate value;
@@ -50,6 +50,21 @@ public class DateTimeDaysRangeTest {
     Assertions.assertEquals(new Days(0), before.rangeDays(nullImpl, () -> new Days(0), Days::new));
   }
 
+  @Test
+  public void testRangeDaysAsLong() {
+    var before = new DateTimeDaysRangeImpl(LocalDateTime.of(2024, Month.MARCH, 1, 1, 2, 3));
+    var after = new DateTimeDaysRangeImpl(LocalDateTime.of(2024, Month.APRIL, 10, 1, 2, 3));
+    var nullImpl = new DateTimeDaysRangeImpl(null);
+
+    Assertions.assertEquals(40L, before.rangeDaysAsLong(after));
+    Assertions.assertEquals(-40L, after.rangeDaysAsLong(before));
+    Assertions.assertEquals(0L, nullImpl.rangeDaysAsLong(after));
+    Assertions.assertEquals(Optional.of("40"), before.rangeDaysAsLong(after, String::valueOf));
+    Assertions.assertEquals(Optional.empty(), nullImpl.rangeDaysAsLong(after, String::valueOf));
+    Assertions.assertEquals("-40", after.rangeDaysAsLong(before, () -> "-", String::valueOf));
+    Assertions.assertEquals("-", before.rangeDaysAsLong(nullImpl, () -> "-", String::valueOf));
+  }
+
   public static class DateTimeDaysRangeImpl implements DateTimeDaysRange<DateTimeDaysRangeImpl> {
 
     private final LocalDateTime value;
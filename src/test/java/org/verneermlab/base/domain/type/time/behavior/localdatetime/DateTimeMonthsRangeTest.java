@@ -157,6 +157,21 @@ public class DateTimeMonthsRangeTest {
     Assertions.assertEquals(new Month2(BigDecimal.ZERO), actual.rangeMonthsHalfUp(nullImpl, () -> new Month2(BigDecimal.ZERO), Month2::new));
   }
 
+  @Test
+  public void testRangeMonthsAsLong() {
+    var before = new DateTimeMonthsRangeImpl(LocalDateTime.of(2024, Month.MARCH, 1, 1, 2, 3));
+    var after = new DateTimeMonthsRangeImpl(LocalDateTime.of(2024, Month.APRIL, 10, 1, 2, 3));
+    var nullImpl = new DateTimeMonthsRangeImpl(null);
+
+    Assertions.assertEquals(1L, before.rangeMonthsAsLong(after));
+    Assertions.assertEquals(-1L, after.rangeMonthsAsLong(before));
+    Assertions.assertEquals(0L, nullImpl.rangeMonthsAsLong(after));
+    Assertions.assertEquals(Optional.of("1"), before.rangeMonthsAsLong(after, String::valueOf));
+    Assertions.assertEquals(Optional.empty(), nullImpl.rangeMonthsAsLong(after, String::valueOf));
+    Assertions.assertEquals("-1", after.rangeMonthsAsLong(before, () -> "-", String::valueOf));
+    Assertions.assertEquals("-", before.rangeMonthsAsLong(nullImpl, () -> "-", String::valueOf));
+  }
+
   public static class DateTimeMonthsRangeImpl implements DateTimeMonthsRange<DateTimeMonthsRangeImpl> {
 
     private final LocalDateTime value;
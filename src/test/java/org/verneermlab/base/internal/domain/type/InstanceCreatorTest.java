@@ -1,5 +1,8 @@
 package org.verneermlab.base.internal.domain.type;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import org.junit.jupiter.api.Test;
 
@@ -20,6 +23,55 @@ public class InstanceCreatorTest {
     assertThrows(RuntimeException.class, () -> impl.newInstanceFromThis());
   }
 
+  @Test
+  public void testNewInstanceFromThis_Cached() {
+    var impl = new Test3("a");
+    var actual1 = impl.newInstanceFromThis("b");
+    var actual2 = impl.newInstanceFromThis("c");
+    assertEquals("b", actual1.value);
+    assertEquals("c", actual2.value);
+    assertNotSame(actual1, actual2);
+
+    var actual3 = impl.newInstanceFromThis();
+    var actual4 = impl.newInstanceFromThis();
+    assertNull(actual3.value);
+    assertNotSame(actual3, actual4);
+  }
+
+  @Test
+  public void testNewInstanceFromThis_Repeated() {
+    var impl = new Test2();
+    assertThrows(RuntimeException.class, () -> impl.newInstanceFromThis(""));
+    assertThrows(RuntimeException.class, () -> impl.newInstanceFromThis(""));
+  }
+
+  @Test
+  public void testNewInstanceFromThis_Registered() {
+    var impl = new Test4("a");
+    var actual1 = impl.newInstanceFromThis("b");
+    assertEquals("registered:b", actual1.value);
+
+    var actual2 = impl.newInstanceFromThis();
+    assertEquals("registered", actual2.value);
+  }
+
+  @Test
+  public void testRegister_AlreadyRegistered() {
+    var impl = new Test4("a");
+    assertThrows(IllegalStateException.class, () -> InstanceCreator.register(Test4.class, String.class,
+            () -> new Test4("other"), value -> new Test4("other:" + value)));
+    assertEquals("registered:b", impl.newInstanceFromThis("b").value);
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void testRegister_OtherType() {
+    InstanceCreator.register((Class) Test5.class, String.class, () -> "empty", value -> value);
+    var impl = new Test5();
+    assertThrows(ClassCastException.class, () -> impl.newInstanceFromThis());
+    assertThrows(ClassCastException.class, () -> impl.newInstanceFromThis("a"));
+  }
+
   public class Test1 implements InstanceCreator<Test1> {
 
     Test1(String value) {
@@ -30,4 +82,35 @@ public class InstanceCreatorTest {
   public class Test2 implements InstanceCreator<Test1> {
 
   }
+
+  static class Test3 implements InstanceCreator<Test3> {
+
+    private final String value;
+
+    private Test3() {
+      this.value = null;
+    }
+
+    private Test3(String value) {
+      this.value = value;
+    }
+  }
+
+  static class Test4 implements InstanceCreator<Test4> {
+
+    static {
+      InstanceCreator.register(Test4.class, String.class,
+              () -> new Test4("registered"), value -> new Test4("registered:" + value));
+    }
+
+    private final String value;
+
+    private Test4(String value) {
+      this.value = value;
+    }
+  }
+
+  static class Test5 implements InstanceCreator<Test5> {
+
+  }
 }
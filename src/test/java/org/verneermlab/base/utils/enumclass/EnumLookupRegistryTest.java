@@ -0,0 +1,114 @@
+package org.verneermlab.base.utils.enumclass;
+
+import java.util.Optional;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EnumLookupRegistryTest {
+
+  private enum TestEnum {
+    A("1", "Alpha", "01"), B("2", "Beta", "02");
+
+    private TestEnum(String cd, String label, String legacyCd) {
+      this.cd = cd;
+      this.label = label;
+      this.legacyCd = legacyCd;
+    }
+
+    private final String cd;
+    private final String label;
+    private final String legacyCd;
+
+    String getCd() {
+      return cd;
+    }
+
+    String getLabel() {
+      return label;
+    }
+
+    String getLegacyCd() {
+      return legacyCd;
+    }
+
+    static final EnumReverseLookup<TestEnum, String> byCd
+            = EnumLookupRegistry.of(TestEnum.class).register("cd", TestEnum::getCd);
+    static final EnumReverseLookup<TestEnum, String> byLabel
+            = EnumLookupRegistry.of(TestEnum.class).registerText("label", TestEnum::getLabel, TextMatchMode.TRIM_IGNORE_CASE);
+    static final EnumReverseLookup<TestEnum, String> byLegacyCd
+            = EnumLookupRegistry.of(TestEnum.class).registerText("legacyCd", TestEnum::getLegacyCd, TextMatchMode.TRIM);
+  }
+
+  @Test
+  public void testLookup() {
+    Assertions.assertEquals(TestEnum.A, TestEnum.byCd.lookup("1").get());
+    Assertions.assertEquals(TestEnum.B, EnumLookupRegistry.of(TestEnum.class).lookup("cd", "2").get());
+    Assertions.assertEquals(TestEnum.B, EnumLookupRegistry.of(TestEnum.class).lookup("label", " beta ").get());
+    Assertions.assertEquals(TestEnum.A, TestEnum.byLegacyCd.lookup("01 ").get());
+    Assertions.assertTrue(TestEnum.byLegacyCd.lookup("1").isEmpty());
+    Assertions.assertTrue(TestEnum.byLabel.lookup(null).isEmpty());
+    Assertions.assertThrows(IllegalArgumentException.class,
+            () -> EnumLookupRegistry.of(TestEnum.class).lookup("unknown", "1"));
+  }
+
+  @Test
+  public void testShared() {
+    Assertions.assertSame(EnumLookupRegistry.of(TestEnum.class), EnumLookupRegistry.of(TestEnum.class));
+    Assertions.assertSame(TestEnum.byCd, EnumLookupRegistry.of(TestEnum.class).register("cd", TestEnum::getCd));
+    Assertions.assertSame(TestEnum.byLabel, EnumLookupRegistry.of(TestEnum.class)
+            .registerText("label", TestEnum::getLabel, TextMatchMode.TRIM_IGNORE_CASE));
+    Optional<EnumReverseLookup<TestEnum, String>> registered = EnumLookupRegistry.of(TestEnum.class).get("label");
+    Assertions.assertSame(TestEnum.byLabel, registered.get());
+    Assertions.assertTrue(EnumLookupRegistry.of(TestEnum.class).get("unknown").isEmpty());
+  }
+
+  @Test
+  public void testRegister_Different() {
+    var registry = EnumLookupRegistry.of(TestEnum.class);
+    Assertions.assertThrows(IllegalStateException.class, () -> registry.register("cd", TestEnum::getLabel));
+    Assertions.assertThrows(IllegalStateException.class, () -> registry.register("cd", TestEnum::ordinal));
+    Assertions.assertThrows(IllegalStateException.class,
+            () -> registry.registerText("cd", TestEnum::getCd, TextMatchMode.IGNORE_CASE));
+    Assertions.assertThrows(IllegalStateException.class,
+            () -> registry.registerText("label", TestEnum::getLabel, TextMatchMode.EXACT));
+    Assertions.assertEquals(TestEnum.A, registry.lookup("cd", "1").get());
+  }
+
+  @Test
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void testNotEnum() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> EnumLookupRegistry.of((Class) String.class));
+  }
+
+  @Test
+  public void testTextMatchMode() {
+    Assertions.assertEquals(" Ab ", TextMatchMode.EXACT.normalize(" Ab "));
+    Assertions.assertEquals("Ab", TextMatchMode.TRIM.normalize(" Ab "));
+    Assertions.assertEquals(" ab ", TextMatchMode.IGNORE_CASE.normalize(" Ab "));
+    Assertions.assertEquals("ab", TextMatchMode.TRIM_IGNORE_CASE.normalize(" Ab "));
+    var value = "ab";
+    Assertions.assertSame(value, TextMatchMode.TRIM_IGNORE_CASE.normalize(value));
+  }
+
+  private enum LazyEnum {
+    A("1");
+
+    private LazyEnum(String cd) {
+      this.cd = cd;
+    }
+
+    private final String cd;
+
+    String getCd() {
+      return cd;
+    }
+
+    static final EnumReverseLookup<LazyEnum, String> byCd
+            = EnumLookupRegistry.of(LazyEnum.class).register("cd", LazyEnum::getCd);
+  }
+
+  @Test
+  public void testLookupBeforeEnumInitialized() {
+    Assertions.assertEquals(LazyEnum.A, EnumLookupRegistry.of(LazyEnum.class).lookup("cd", "1").get());
+  }
+}
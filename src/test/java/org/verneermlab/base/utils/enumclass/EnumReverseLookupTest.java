@@ -37,4 +37,35 @@ public class EnumReverseLookupTest {
     var actual = TestEnum.byCd.lookup("a");
     Assertions.assertTrue(actual.isEmpty());
   }
+
+  @Test
+  public void testLookupNull() {
+    Assertions.assertTrue(TestEnum.byCd.lookup(null).isEmpty());
+  }
+
+  private enum DuplicateEnum {
+    A("1"), B("1"), C(null);
+
+    private DuplicateEnum(String cd) {
+      this.cd = cd;
+    }
+
+    private final String cd;
+
+    String getCd() {
+      return cd;
+    }
+  }
+
+  @Test
+  public void testLookupDuplicate() {
+    var lookup = new EnumReverseLookup<>(DuplicateEnum.class, DuplicateEnum::getCd);
+    Assertions.assertEquals(DuplicateEnum.A, lookup.lookup("1").get());
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new EnumReverseLookup<>(DuplicateEnum.class, DuplicateEnum::getCd,
+                    EnumReverseLookup.DuplicatePolicy.REJECT));
+    var unique = new EnumReverseLookup<>(TestEnum.class, TestEnum::getCd, EnumReverseLookup.DuplicatePolicy.REJECT);
+    Assertions.assertEquals(TestEnum.B, unique.lookup("2").get());
+  }
 }
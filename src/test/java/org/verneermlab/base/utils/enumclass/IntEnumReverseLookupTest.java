@@ -0,0 +1,63 @@
+package org.verneermlab.base.utils.enumclass;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IntEnumReverseLookupTest {
+
+  private enum TestEnum {
+    A(10), B(11), C(13), D(11);
+
+    private TestEnum(int no) {
+      this.no = no;
+    }
+
+    private final int no;
+
+    int getNo() {
+      return no;
+    }
+
+    static final IntEnumReverseLookup<TestEnum> byNo = new IntEnumReverseLookup<>(TestEnum.class, TestEnum::getNo);
+  }
+
+  private enum SparseEnum {
+    A(-1000000), B(0), C(Integer.MAX_VALUE);
+
+    private SparseEnum(int no) {
+      this.no = no;
+    }
+
+    private final int no;
+
+    int getNo() {
+      return no;
+    }
+  }
+
+  @Test
+  public void testLookup_Dense() {
+    Assertions.assertEquals(TestEnum.A, TestEnum.byNo.lookup(10).get());
+    Assertions.assertEquals(TestEnum.B, TestEnum.byNo.lookup(11).get());
+    Assertions.assertEquals(TestEnum.C, TestEnum.byNo.lookup(13).get());
+    Assertions.assertTrue(TestEnum.byNo.lookup(12).isEmpty());
+    Assertions.assertTrue(TestEnum.byNo.lookup(9).isEmpty());
+    Assertions.assertTrue(TestEnum.byNo.lookup(Integer.MIN_VALUE).isEmpty());
+    Assertions.assertTrue(TestEnum.byNo.lookup(Integer.MAX_VALUE).isEmpty());
+  }
+
+  @Test
+  public void testLookup_Sparse() {
+    var lookup = new IntEnumReverseLookup<>(SparseEnum.class, SparseEnum::getNo);
+    Assertions.assertEquals(SparseEnum.A, lookup.lookup(-1000000).get());
+    Assertions.assertEquals(SparseEnum.B, lookup.lookup(0).get());
+    Assertions.assertEquals(SparseEnum.C, lookup.lookup(Integer.MAX_VALUE).get());
+    Assertions.assertTrue(lookup.lookup(1).isEmpty());
+  }
+
+  @Test
+  public void testLookup_Reject() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new IntEnumReverseLookup<>(TestEnum.class, TestEnum::getNo, EnumReverseLookup.DuplicatePolicy.REJECT));
+  }
+}
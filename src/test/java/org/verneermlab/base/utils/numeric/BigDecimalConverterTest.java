@@ -0,0 +1,53 @@
+package org.verneermlab.base.utils.numeric;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class BigDecimalConverterTest {
+
+  @Test
+  public void testToBigDecimal_BigDecimal() {
+    var value = new BigDecimal("1.230");
+    assertSame(value, BigDecimalConverter.toBigDecimal(value));
+  }
+
+  @Test
+  public void testToBigDecimal_Integral() {
+    assertEquals("123", BigDecimalConverter.toBigDecimal(123).toPlainString());
+    assertEquals("9007199254740993", BigDecimalConverter.toBigDecimal(9007199254740993L).toPlainString());
+    assertEquals("-1", BigDecimalConverter.toBigDecimal((short) -1).toPlainString());
+    assertEquals("7", BigDecimalConverter.toBigDecimal((byte) 7).toPlainString());
+    assertEquals("5", BigDecimalConverter.toBigDecimal(new AtomicLong(5)).toPlainString());
+  }
+
+  @Test
+  public void testToBigDecimal_BigInteger() {
+    var value = new BigInteger("123456789012345678901234567890");
+    assertEquals("123456789012345678901234567890", BigDecimalConverter.toBigDecimal(value).toPlainString());
+  }
+
+  @Test
+  public void testToBigDecimal_Double() {
+    assertEquals("1.1", BigDecimalConverter.toBigDecimal(1.1).toPlainString());
+    assertEquals("2", BigDecimalConverter.toBigDecimal(2.0).toPlainString());
+    assertEquals("1.0E+20", BigDecimalConverter.toBigDecimal(1e20).toString());
+    assertThrows(NumberFormatException.class, () -> BigDecimalConverter.toBigDecimal(Double.NaN));
+  }
+
+  @Test
+  public void testToBigDecimal_Float() {
+    assertEquals("10.11", BigDecimalConverter.toBigDecimal(10.11f).toPlainString());
+    assertEquals("3", BigDecimalConverter.toBigDecimal(3.0f).toPlainString());
+    assertThrows(NumberFormatException.class, () -> BigDecimalConverter.toBigDecimal(Float.POSITIVE_INFINITY));
+  }
+
+  @Test
+  public void testToBigDecimal_Null() {
+    assertThrows(NullPointerException.class, () -> BigDecimalConverter.toBigDecimal(null));
+  }
+}
@@ -0,0 +1,84 @@
+package org.verneermlab.base.utils.numeric;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.util.stream.IntStream;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+public class GroupingDecimalFormatterTest {
+
+  @Test
+  public void testFormat() {
+    var integer = GroupingDecimalFormatter.of(0);
+    assertEquals("0", integer.format(BigDecimal.ZERO));
+    assertEquals("999", integer.format(new BigDecimal("999")));
+    assertEquals("1,000", integer.format(new BigDecimal("1000")));
+    assertEquals("-1,234,567", integer.format(new BigDecimal("-1234567")));
+    assertEquals("-9,223,372,036,854,775,808", integer.format(Long.MIN_VALUE));
+    assertEquals("123,456,789,012,345,678,901", integer.format(new BigDecimal("123456789012345678901")));
+
+    var decimal = GroupingDecimalFormatter.of(2);
+    assertEquals("0.00", decimal.format(BigDecimal.ZERO));
+    assertEquals("0.05", decimal.format(5L));
+    assertEquals("-0.05", decimal.format(-5L));
+    assertEquals("1,000.01", decimal.format(new BigDecimal("1000.01")));
+    assertEquals("12.34", decimal.format(new BigDecimal("12.345")));
+    assertEquals("1,234,567,890,123,456,789.01", decimal.format(new BigDecimal("1234567890123456789.01")));
+
+    assertThrows(IllegalArgumentException.class, () -> GroupingDecimalFormatter.of(-1));
+  }
+
+  @Test
+  public void testFormat_SameAsDecimalFormat() {
+    var patterns = new String[]{"#,##0", "#,##0.0", "#,##0.00"};
+    for (int fractionDigits = 0; fractionDigits < patterns.length; fractionDigits++) {
+      var formatter = GroupingDecimalFormatter.of(fractionDigits);
+      var decimalFormat = new DecimalFormat(patterns[fractionDigits]);
+      for (long seed = -200000L; seed <= 200000L; seed += 997L) {
+        var value = BigDecimal.valueOf(seed * 1000003L, 3);
+        assertEquals(decimalFormat.format(value), formatter.format(value), value.toPlainString());
+      }
+    }
+  }
+
+  @Test
+  public void testFormatTo() {
+    var formatter = GroupingDecimalFormatter.of(0);
+    var builder = new StringBuilder("total=");
+    formatter.formatTo(new BigDecimal("12345"), builder);
+    assertEquals("total=12,345", builder.toString());
+
+    var writer = new StringWriter();
+    formatter.formatTo(new BigDecimal("12345"), writer);
+    assertEquals("12,345", writer.toString());
+  }
+
+  @Test
+  public void testParse() {
+    var formatter = GroupingDecimalFormatter.of(2);
+    assertEquals(new BigDecimal("2000"), formatter.parse("2,000"));
+    assertEquals(new BigDecimal("2000.11"), formatter.parse("2,000.11"));
+    assertEquals(new BigDecimal("-1234.5"), formatter.parse("-1,234.5"));
+    assertEquals(new BigDecimal("12"), formatter.parse("12abc"));
+    assertEquals(new BigDecimal("1.2"), formatter.parse("1.2,3"));
+    assertEquals(new BigDecimal("0.5"), formatter.parse(".5"));
+    assertEquals(new BigDecimal("123456789012345678901.5"), formatter.parse("123,456,789,012,345,678,901.5"));
+    assertThrows(NumberFormatException.class, () -> formatter.parse("abc"));
+    assertThrows(NumberFormatException.class, () -> formatter.parse("-"));
+    assertThrows(NumberFormatException.class, () -> formatter.parse(""));
+  }
+
+  @Test
+  public void testConcurrentUse() {
+    var formatter = GroupingDecimalFormatter.of(2);
+    var allMatch = IntStream.range(0, 100000).parallel().allMatch(i -> {
+      var value = BigDecimal.valueOf(i * 7919L, 2);
+      return formatter.parse(formatter.format(value)).compareTo(value) == 0;
+    });
+    assertTrue(allMatch);
+  }
+}
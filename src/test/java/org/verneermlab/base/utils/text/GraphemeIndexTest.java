@@ -0,0 +1,74 @@
+package org.verneermlab.base.utils.text;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+public class GraphemeIndexTest {
+
+  @Test
+  public void testEmpty() {
+    var index = GraphemeIndex.of("");
+    assertEquals(0, index.length());
+    assertEquals(0, index.offset(0));
+  }
+
+  @Test
+  public void testAscii() {
+    var index = GraphemeIndex.of("abc");
+    assertEquals(3, index.length());
+    assertEquals(1, index.offset(1));
+    assertEquals(3, index.offset(3));
+    assertThrows(IndexOutOfBoundsException.class, () -> index.offset(4));
+  }
+
+  @Test
+  public void testSurrogateAndCombining() {
+    // 𠮷（サロゲートペア）、か + 結合用濁点
+    var value = "\uD842\uDFB7\u304B\u3099a";
+    var index = GraphemeIndex.of(value);
+    assertEquals(3, index.length());
+    assertEquals(0, index.offset(0));
+    assertEquals(2, index.offset(1));
+    assertEquals(4, index.offset(2));
+    assertEquals(5, index.offset(3));
+    assertEquals("\u304B\u3099", value.substring(index.offset(1), index.offset(2)));
+  }
+
+  @Test
+  public void testSingleCharGrapheme_SameAsBreakIterator() {
+    var neighbors = "a0 \n\u00E9\u3042\u30A2\u4E00\uFF76\u3099\u0301\uFE0F\u200D\u1100\r";
+    for (int c = 0; c <= Character.MAX_VALUE; c++) {
+      if (!GraphemeIndex.isSingleCharGrapheme((char) c)) {
+        continue;
+      }
+      var ch = String.valueOf((char) c);
+      assertEquals(1, GraphemeIndex.ofBreakIterator(ch + ch).offset(1), ch);
+      for (int i = 0; i < neighbors.length(); i++) {
+        var neighbor = String.valueOf(neighbors.charAt(i));
+        if (!GraphemeIndex.isSingleCharGrapheme(neighbor.charAt(0))) {
+          continue;
+        }
+        assertEquals(2, GraphemeIndex.ofBreakIterator(ch + neighbor).length(), ch);
+        assertEquals(2, GraphemeIndex.ofBreakIterator(neighbor + ch).length(), ch);
+      }
+    }
+  }
+
+  @Test
+  public void testFastPath_SameAsBreakIterator() {
+    var values = new String[]{"abc", "\u3042\u3044\u3046\u6F22\u5B57", "a\r\nb", "\u30AB\u3099",
+      "\uFF76\uFF9E", "\u845B\uDB40\uDD00", "\uD83D\uDC68\u200D\uD83D\uDC69", "e\u0301", "\u1100\u1161",
+      "\u2014\u201C\u2026\u203B", "\uFF21\uFF11"};
+    for (var value : values) {
+      var expected = GraphemeIndex.ofBreakIterator(value);
+      var actual = GraphemeIndex.of(value);
+      assertEquals(expected.length(), actual.length(), value);
+      for (int i = 0; i <= expected.length(); i++) {
+        assertEquals(expected.offset(i), actual.offset(i), value);
+      }
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> GraphemeIndex.of("abc").offset(4));
+    assertThrows(IndexOutOfBoundsException.class, () -> GraphemeIndex.of("abc").offset(-1));
+  }
+}
@@ -0,0 +1,46 @@
+package org.verneermlab.base.utils.text;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+  @Test
+  public void testIntern() {
+    var created = new AtomicInteger();
+    var pool = InternPool.<StringBuilder>of(16, value -> {
+      created.incrementAndGet();
+      return new StringBuilder(value);
+    }, StringBuilder::toString);
+
+    var first = pool.intern("tokyo");
+    assertSame(first, pool.intern(new String("tokyo")));
+    assertEquals(1, created.get());
+    var statistics = pool.statistics();
+    assertEquals(1, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+    assertEquals(0.5, statistics.hitRate());
+
+    pool.clear();
+    assertNotSame(first, pool.intern("tokyo"));
+    assertEquals(2, created.get());
+  }
+
+  @Test
+  public void testCapacity() {
+    assertEquals(1, InternPool.of(1, String::new, String::toString).capacity());
+    assertEquals(16, InternPool.of(16, String::new, String::toString).capacity());
+    assertEquals(32, InternPool.of(17, String::new, String::toString).capacity());
+    assertThrows(IllegalArgumentException.class, () -> InternPool.of(0, String::new, String::toString));
+  }
+
+  @Test
+  public void testBounded() {
+    var pool = InternPool.of(1, String::new, String::toString);
+    for (int i = 0; i < 100; i++) {
+      assertEquals(String.valueOf(i), pool.intern(String.valueOf(i)));
+    }
+    assertEquals(0.0, pool.statistics().hitRate());
+  }
+}
@@ -0,0 +1,49 @@
+package org.verneermlab.base.utils.text;
+
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.verneermlab.apps.common.domain.part.text.Text;
+
+public class TextJoinerTest {
+
+  @Test
+  public void testJoin() {
+    var joiner = TextJoiner.of(",");
+    assertEquals("a,,c", joiner.join(Text.of("a"), Text.createNoValue(), Text.of("c")));
+    assertEquals("a,,c", joiner.join(List.of(Text.of("a"), Text.createNoValue(), Text.of("c"))));
+    assertEquals("", joiner.join());
+    assertEquals("", joiner.join(List.of()));
+    assertEquals("a", joiner.join(List.of(Text.of("a"))));
+  }
+
+  @Test
+  public void testJoinNoDelimiter() {
+    assertEquals("abc", TextJoiner.of((String) null).join(Text.of("a"), Text.of("bc")));
+    assertEquals("abc", TextJoiner.of(Text.createNoValue()).join(Text.of("a"), Text.of("bc")));
+  }
+
+  @Test
+  public void testJoinFrom() {
+    var joiner = TextJoiner.of(",");
+    assertEquals("a,b,c", joiner.joinFrom(Text.of("a"), Text.of("b"), Text.of("c")));
+    assertEquals("a,b,c", joiner.joinFrom(Text.of("a"), List.of(Text.of("b"), Text.of("c"))));
+    assertEquals("a", joiner.joinFrom(Text.of("a")));
+    assertEquals("a", joiner.joinFrom(Text.of("a"), List.of()));
+    assertEquals("b,c", joiner.joinFrom(null, List.of(Text.of("b"), Text.of("c"))));
+  }
+
+  @Test
+  public void testJoinTo() {
+    var builder = new StringBuilder("row:");
+    TextJoiner.of("\t").joinTo(builder, List.of(Text.of("a"), Text.of("b")));
+    assertEquals("row:a\tb", builder.toString());
+  }
+
+  @Test
+  public void testSameAsStringJoin() {
+    var values = List.of("", "ab", "🍀𩸽", "", "xyz");
+    var texts = List.of(Text.of(""), Text.of("ab"), Text.of("🍀𩸽"), Text.createNoValue(), Text.of("xyz"));
+    assertEquals(String.join(" - ", values), TextJoiner.of(" - ").join(texts));
+  }
+}
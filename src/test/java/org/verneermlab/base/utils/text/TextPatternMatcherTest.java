@@ -0,0 +1,81 @@
+package org.verneermlab.base.utils.text;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.verneermlab.apps.common.domain.part.text.Text;
+
+public class TextPatternMatcherTest {
+
+  @Test
+  public void testContainsAny() {
+    var matcher = TextPatternMatcher.of(List.of(Text.of("he"), Text.of("she"), Text.of("his"), Text.of("hers")));
+    assertTrue(matcher.containsAny(Text.of("ushers")));
+    assertTrue(matcher.containsAny(Text.of("ahis")));
+    assertFalse(matcher.containsAny(Text.of("hxs")));
+    assertFalse(matcher.containsAny(Text.of("")));
+    assertFalse(matcher.containsAny(Text.createNoValue()));
+  }
+
+  @Test
+  public void testMatches() {
+    var matcher = TextPatternMatcher.of(List.of(Text.of("he"), Text.of("she"), Text.of("his"), Text.of("hers")));
+    var expected = new BitSet();
+    expected.set(0);
+    expected.set(1);
+    expected.set(3);
+    assertEquals(expected, matcher.matches(Text.of("ushers")));
+  }
+
+  @Test
+  public void testEmptyNeedle() {
+    var matcher = TextPatternMatcher.of(List.of(Text.createNoValue(), Text.of(""), Text.of("東京")));
+    assertTrue(matcher.containsAny(Text.of("東京都")));
+    assertFalse(matcher.containsAny(Text.of("大阪府")));
+    assertFalse(matcher.containsAll(Text.of("東京都")));
+    assertFalse(TextPatternMatcher.of(List.of()).containsAny(Text.of("a")));
+  }
+
+  @Test
+  public void testContainsAll() {
+    var matcher = TextPatternMatcher.of(List.of(Text.of("赤"), Text.of("ペン")));
+    assertTrue(matcher.containsAll(Text.of("赤いペン")));
+    assertFalse(matcher.containsAll(Text.of("青いペン")));
+  }
+
+  @Test
+  public void testFilter() {
+    var matcher = TextPatternMatcher.of(List.of(Text.of("ペン"), Text.of("ノート")));
+    var actual = matcher.filter(List.of(Text.of("赤ペン"), Text.of("消しゴム"), Text.createNoValue(), Text.of("ノートA4")));
+    assertEquals(List.of(Text.of("赤ペン"), Text.of("ノートA4")), actual);
+  }
+
+  @Test
+  public void testSameAsContains() {
+    var random = new Random(1L);
+    for (int n = 0; n < 300; n++) {
+      var needles = List.of(Text.of(randomText(random, 3)), Text.of(randomText(random, 2)), Text.of(randomText(random, 4)));
+      var matcher = TextPatternMatcher.of(needles);
+      var haystack = Text.of(randomText(random, 20));
+      var expected = new BitSet();
+      for (int i = 0; i < needles.size(); i++) {
+        if (haystack.contains(needles.get(i))) {
+          expected.set(i);
+        }
+      }
+      assertEquals(expected, matcher.matches(haystack), haystack + " " + needles);
+      assertEquals(!expected.isEmpty(), matcher.containsAny(haystack));
+    }
+  }
+
+  private static String randomText(Random random, int maxLength) {
+    var builder = new StringBuilder();
+    int length = 1 + random.nextInt(maxLength);
+    for (int i = 0; i < length; i++) {
+      builder.append((char) ('a' + random.nextInt(3)));
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,57 @@
+package org.verneermlab.base.utils.time;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class BasicDateFormatTest {
+
+  private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuuMMdd");
+
+  @Test
+  public void testParse_SameAsDateTimeFormatter() {
+    var values = List.of("20240101", "20240229", "20230229", "20240230", "20240231", "20240431", "20240132",
+            "20241301", "20240001", "20240100", "00000101", "99991231", "+20240101", "+123450101", "123450101",
+            "-00010101", "2024011", "2024-101", " 20240101", "20240101 ", "2024010a", "", "+", "-");
+    for (var value : values) {
+      LocalDate expected;
+      try {
+        expected = LocalDate.parse(value, formatter);
+      } catch (DateTimeParseException ex) {
+        expected = null;
+      }
+      if (expected == null) {
+        assertEquals(BasicDateFormat.INVALID, BasicDateFormat.parseEpochDay(value), value);
+        assertThrows(DateTimeParseException.class, () -> BasicDateFormat.parse(value), value);
+        continue;
+      }
+      assertEquals(expected.toEpochDay(), BasicDateFormat.parseEpochDay(value), value);
+      assertEquals(expected, BasicDateFormat.parse(value), value);
+    }
+  }
+
+  @Test
+  public void testParse_AllDays() {
+    for (var date = LocalDate.of(0, 1, 1); date.getYear() < 2101; date = date.plusDays(1)) {
+      assertEquals(date.toEpochDay(), BasicDateFormat.parseEpochDay(formatter.format(date)));
+    }
+    for (int year = 1, step = 1; year <= 9999; year += step, step++) {
+      var date = LocalDate.of(year, 12, 31);
+      assertEquals(date.toEpochDay(), BasicDateFormat.parseEpochDay(formatter.format(date)));
+    }
+  }
+
+  @Test
+  public void testFormat_SameAsDateTimeFormatter() {
+    var yearMonth = DateTimeFormatter.ofPattern("uuuuMM");
+    for (var date : List.of(LocalDate.of(2024, 1, 1), LocalDate.of(5, 12, 31), LocalDate.of(0, 1, 1),
+            LocalDate.of(9999, 12, 31), LocalDate.of(-5, 1, 1), LocalDate.of(12345, 6, 7))) {
+      assertEquals(formatter.format(date), BasicDateFormat.format(date));
+      assertEquals(yearMonth.format(date), BasicDateFormat.formatYearMonth(date));
+      assertEquals("x" + formatter.format(date), BasicDateFormat.formatTo(date, new StringBuilder("x")).toString());
+    }
+  }
+}
@@ -0,0 +1,56 @@
+package org.verneermlab.base.utils.time;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.Period;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class MonthsBetweenTest {
+
+  @Test
+  public void testRoundHalfMonths_SameAsBigDecimal() {
+    for (int days = -30; days <= 30; days++) {
+      var expected = new BigDecimal(days)
+              .divide(new BigDecimal(30), 2, RoundingMode.HALF_UP)
+              .multiply(new BigDecimal(2)).setScale(0, RoundingMode.HALF_UP);
+      assertEquals(expected.intValueExact(), MonthsBetween.roundHalfMonths(days), String.valueOf(days));
+    }
+  }
+
+  @Test
+  public void testHalfUp_SameAsPeriod() {
+    // 閏年を含む2年強の全ての日付の組み合わせで確認します.
+    var from = LocalDate.of(2023, 11, 1);
+    var to = LocalDate.of(2025, 3, 31);
+    for (var start = from; !start.isAfter(to); start = start.plusDays(1)) {
+      for (var end = from; !end.isAfter(to); end = end.plusDays(1)) {
+        var period = Period.between(start, end);
+        assertEquals(period.toTotalMonths(), MonthsBetween.totalMonths(start, end));
+        // 比較はスケールを含めて一致を確認します.
+        assertEquals(expected(period), MonthsBetween.halfUp(start, end), start + " " + end);
+      }
+    }
+  }
+
+  @Test
+  public void testHalfUp_Far() {
+    var start = LocalDate.of(1900, 1, 31);
+    var end = LocalDate.of(2150, 2, 14);
+    assertEquals(expected(Period.between(start, end)), MonthsBetween.halfUp(start, end));
+    assertEquals(expected(Period.between(end, start)), MonthsBetween.halfUp(end, start));
+    assertSame(MonthsBetween.halfUp(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 16)),
+            MonthsBetween.halfUp(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 2, 16)));
+  }
+
+  private static BigDecimal expected(Period period) {
+    var monthCount = period.toTotalMonths();
+    var dayCount = period.minusMonths(monthCount).getDays();
+    var halfUpDay = new BigDecimal(dayCount)
+            .divide(new BigDecimal(30), 2, RoundingMode.HALF_UP)
+            .multiply(new BigDecimal(2)).setScale(0, RoundingMode.HALF_UP)
+            .divide(new BigDecimal(2));
+    return new BigDecimal(monthCount).add(halfUpDay);
+  }
+}
@@ -0,0 +1,63 @@
+package org.verneermlab.base.utils.time;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+
+public class SlashDateTimeFormatTest {
+
+  private static final DateTimeFormatter formatterDate = DateTimeFormatter.ofPattern("uuuu/MM/dd");
+  private static final DateTimeFormatter formatterDateTime = DateTimeFormatter.ofPattern("uuuu/MM/dd HH:mm:ss");
+
+  @Test
+  public void testParse_SameAsDateTimeFormatter() {
+    var values = List.of("2024/01/01", "2024/02/30", "2023/02/29", "2024/04/31", "2024/01/32", "2024/13/01",
+            "2024/00/01", "0000/01/01", "+12345/01/01", "-0001/01/01", "12345/01/01", "2024-01-01", "20240101",
+            "2024/1/01", "2024/01/0a", "", "+");
+    for (var value : values) {
+      LocalDate expected;
+      try {
+        expected = LocalDate.parse(value, formatterDate);
+      } catch (DateTimeParseException ex) {
+        expected = null;
+      }
+      if (expected == null) {
+        assertEquals(BasicDateFormat.INVALID, SlashDateTimeFormat.parseEpochDay(value), value);
+        assertThrows(DateTimeParseException.class, () -> SlashDateTimeFormat.parseDate(value), value);
+        continue;
+      }
+      assertEquals(expected.toEpochDay(), SlashDateTimeFormat.parseEpochDay(value), value);
+      assertEquals(expected, SlashDateTimeFormat.parseDate(value), value);
+    }
+  }
+
+  @Test
+  public void testFormatDate_SameAsDateTimeFormatter() {
+    for (var date : List.of(LocalDate.of(2024, 1, 1), LocalDate.of(5, 12, 31), LocalDate.of(9999, 12, 31),
+            LocalDate.of(-5, 1, 1), LocalDate.of(12345, 6, 7))) {
+      assertEquals(formatterDate.format(date), SlashDateTimeFormat.formatDate(date));
+      assertEquals("x" + formatterDate.format(date),
+              SlashDateTimeFormat.formatDateTo(date, new StringBuilder("x")).toString());
+    }
+  }
+
+  @Test
+  public void testFormatDateTime_SameAsDateTimeFormatter() {
+    // 同じ秒、同じ日、別の日の順に変換し、直前の日時文字列の再利用を確認します.
+    var dateTime = LocalDateTime.of(2024, 12, 31, 23, 58, 0, 0);
+    for (int i = 0; i < 400; i++) {
+      assertEquals(formatterDateTime.format(dateTime), SlashDateTimeFormat.formatDateTime(dateTime));
+      dateTime = dateTime.plusNanos(300_000_000L);
+    }
+    for (var value : List.of(LocalDateTime.of(-5, 1, 1, 0, 0), LocalDateTime.of(12345, 1, 1, 0, 0),
+            LocalDateTime.of(2024, 1, 1, 0, 0))) {
+      assertEquals(formatterDateTime.format(value), SlashDateTimeFormat.formatDateTime(value));
+      assertEquals("x" + formatterDateTime.format(value),
+              SlashDateTimeFormat.formatDateTimeTo(value, new StringBuilder("x")).toString());
+    }
+  }
+}